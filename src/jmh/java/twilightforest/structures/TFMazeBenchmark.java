@@ -0,0 +1,50 @@
+package twilightforest.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generating a blank maze with the backtracker, from the hedge maze's 16 cells across up to mazes far bigger than any
+ * piece makes, which the recursive generator couldn't do without overflowing the stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TFMazeBenchmark {
+
+	@Param({"16", "22", "64", "256"})
+	public int size;
+
+	private long seed;
+
+	@Benchmark
+	public int[] generate() {
+		TFMaze maze = new TFMaze(size, size, null, null, null);
+		maze.setSeed(seed++);
+		maze.generateRecursiveBacktracker(0, 0);
+		return maze.storage;
+	}
+
+	@Benchmark
+	public int[] generateAroundRoom() {
+		TFMaze maze = new TFMaze(size, size, null, null, null);
+		maze.setSeed(seed++);
+		maze.carveRoom1(size / 2, size / 2);
+		maze.add4Exits();
+		maze.generateRecursiveBacktracker(0, 0);
+		return maze.storage;
+	}
+}
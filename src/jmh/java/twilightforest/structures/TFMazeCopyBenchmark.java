@@ -0,0 +1,94 @@
+package twilightforest.structures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cell walk a maze copy does for each chunk it generates in, comparing clipping the walk to the chunk against
+ * going over every cell of the maze, the way copying used to.
+ * <p>
+ * Placing blocks needs a world, so this only covers finding the wall cells that could land in the chunk. The maze is
+ * laid out like the minotaur maze, at 1 block walls and 4 block corridors, and each call copies the next chunk of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TFMazeCopyBenchmark {
+
+	@Param({"16", "22", "64"})
+	public int size;
+
+	private TFMaze maze;
+	private int chunks;
+	private int next;
+
+	@Setup
+	public void setup() {
+		maze = new TFMaze(size, size, null, null, null);
+		maze.oddBias = 4;
+		maze.setSeed(1L);
+		maze.generateRecursiveBacktracker(0, 0);
+
+		chunks = (size * (maze.oddBias + maze.evenBias) + 16) >> 4;
+	}
+
+	@Benchmark
+	public int clippedToChunk() {
+		int chunk = next = (next + 1) % (chunks * chunks);
+		int minX = (chunk % chunks) << 4;
+		int minZ = (chunk / chunks) << 4;
+
+		int minRawX = maze.getFirstRaw(1, minX);
+		int maxRawX = maze.getLastRaw(1, minX + 15, maze.rawWidth);
+		int minRawZ = maze.getFirstRaw(1, minZ);
+		int maxRawZ = maze.getLastRaw(1, minZ + 15, maze.rawDepth);
+
+		int walls = 0;
+		for (int x = minRawX; x <= maxRawX; x++) {
+			for (int z = minRawZ; z <= maxRawZ; z++) {
+				maze.seedCell(x, z, 0);
+				if (maze.getRaw(x, z) == 0) {
+					walls++;
+				}
+			}
+		}
+		return walls;
+	}
+
+	@Benchmark
+	public int wholeMaze() {
+		int chunk = next = (next + 1) % (chunks * chunks);
+		int minX = (chunk % chunks) << 4;
+		int minZ = (chunk / chunks) << 4;
+		int period = maze.oddBias + maze.evenBias;
+
+		int walls = 0;
+		for (int x = 0; x < maze.rawWidth; x++) {
+			for (int z = 0; z < maze.rawDepth; z++) {
+				if (maze.getRaw(x, z) == 0) {
+					// the blocks would then each be checked against the chunk
+					int mdx = 1 + x / 2 * period;
+					int mdz = 1 + z / 2 * period;
+					if (mdx + period >= minX && mdx <= minX + 15 && mdz + period >= minZ && mdz <= minZ + 15) {
+						walls++;
+					}
+				}
+			}
+		}
+		return walls;
+	}
+}
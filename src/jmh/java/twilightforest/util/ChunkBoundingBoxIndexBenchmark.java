@@ -0,0 +1,82 @@
+package twilightforest.util;
+
+import net.minecraft.util.math.MutableBoundingBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Structure lookups by position, the way protection and conquest checks ask "what structure is here?",
+ * comparing the chunk index against scanning every structure box.
+ * <p>
+ * Boxes are laid out like feature regions: one structure roughly every 256 blocks, of up to 8 chunks across.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkBoundingBoxIndexBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	public int structures;
+
+	private final List<MutableBoundingBox> boxes = new ArrayList<>();
+	private final ChunkBoundingBoxIndex<MutableBoundingBox> index = new ChunkBoundingBoxIndex<>();
+	private int[] queries;
+	private int next;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(1L);
+		int side = (int) Math.ceil(Math.sqrt(structures));
+
+		for (int i = 0; i < structures; i++) {
+			int x = (i % side) * 256 + rand.nextInt(64);
+			int z = (i / side) * 256 + rand.nextInt(64);
+			int size = 16 + rand.nextInt(112);
+			MutableBoundingBox box = new MutableBoundingBox(x, 30, z, x + size, 30 + rand.nextInt(64), z + size);
+			boxes.add(box);
+			index.add(box, box);
+		}
+
+		queries = new int[1024 * 3];
+		for (int i = 0; i < queries.length; i += 3) {
+			queries[i] = rand.nextInt(side * 256);
+			queries[i + 1] = 30 + rand.nextInt(64);
+			queries[i + 2] = rand.nextInt(side * 256);
+		}
+	}
+
+	@Benchmark
+	public MutableBoundingBox indexLookup() {
+		int i = next = (next + 3) % queries.length;
+		return index.getAt(queries[i], queries[i + 1], queries[i + 2]);
+	}
+
+	@Benchmark
+	public MutableBoundingBox linearScan() {
+		int i = next = (next + 3) % queries.length;
+		int x = queries[i], y = queries[i + 1], z = queries[i + 2];
+		for (MutableBoundingBox box : boxes) {
+			if (x >= box.minX && x <= box.maxX && y >= box.minY && y <= box.maxY && z >= box.minZ && z <= box.maxZ) {
+				return box;
+			}
+		}
+		return null;
+	}
+}
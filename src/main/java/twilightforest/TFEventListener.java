@@ -29,6 +29,7 @@ import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.event.entity.ProjectileImpactEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
@@ -40,6 +41,8 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent.BreakEvent;
 import net.minecraftforge.event.world.BlockEvent.HarvestDropsEvent;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -53,6 +56,7 @@ import twilightforest.block.BlockTFGiantBlock;
 import twilightforest.block.BlockTFPortal;
 import twilightforest.block.TFBlocks;
 import twilightforest.capabilities.CapabilityList;
+import twilightforest.capabilities.progression.ProgressionGates;
 import twilightforest.capabilities.shield.IShieldCapability;
 import twilightforest.compat.TFCompat;
 import twilightforest.enchantment.TFEnchantment;
@@ -60,16 +64,20 @@ import twilightforest.entity.EntityTFCharmEffect;
 import twilightforest.entity.IHostileMount;
 import twilightforest.entity.ITFProjectile;
 import twilightforest.entity.TFEntities;
+import twilightforest.entity.ai.FlockTracker;
+import twilightforest.item.ItemTFOreMeter;
 import twilightforest.item.ItemTFPhantomArmor;
 import twilightforest.item.TFItems;
 import twilightforest.network.PacketAreaProtection;
 import twilightforest.network.PacketEnforceProgressionStatus;
 import twilightforest.network.PacketSetSkylightEnabled;
+import twilightforest.network.PacketUpdateProgression;
 import twilightforest.network.PacketUpdateShield;
 import twilightforest.network.TFPacketHandler;
 import twilightforest.potions.TFPotions;
+import twilightforest.tileentity.GhastTrapRegistry;
+import twilightforest.util.BlockChangeWatchers;
 import twilightforest.util.TFItemStackUtils;
-import twilightforest.world.ChunkGeneratorTFBase;
 import twilightforest.world.TFWorld;
 import twilightforest.world.WorldProviderTwilightForest;
 
@@ -347,9 +355,8 @@ public class TFEventListener {
 
 	@SubscribeEvent
 	public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
-		if (event.isEndConquered()) {
-			updateCapabilities((ServerPlayerEntity) event.getPlayer(), event.getPlayer());
-		} else {
+		updateCapabilities((ServerPlayerEntity) event.getPlayer(), event.getPlayer());
+		if (!event.isEndConquered()) {
 			returnStoredItems(event.getPlayer());
 		}
 	}
@@ -526,6 +533,34 @@ public class TFEventListener {
 		}
 	}
 
+	/**
+	 * Keep track of the structures covering the chunk while it's loaded, for what they protect
+	 */
+	@SubscribeEvent
+	public static void chunkLoad(ChunkEvent.Load event) {
+		// only once the chunk is done generating, chunks still in progress don't get an unload
+		if (event.getWorld() != null && !event.getWorld().isRemote() && event.getChunk() instanceof Chunk) {
+			TFProtectionIndex.get(event.getWorld().getWorld()).addChunk(event.getChunk());
+		}
+	}
+
+	@SubscribeEvent
+	public static void chunkUnload(ChunkEvent.Unload event) {
+		if (event.getWorld() != null && !event.getWorld().isRemote()) {
+			TFProtectionIndex.get(event.getWorld().getWorld()).removeChunk(event.getChunk());
+		}
+	}
+
+	/**
+	 * Let anything watching this block know that it changed
+	 */
+	@SubscribeEvent
+	public static void blockChanged(NeighborNotifyEvent event) {
+		if (!event.getWorld().isRemote()) {
+			BlockChangeWatchers.onBlockChanged(event.getWorld(), event.getPos());
+		}
+	}
+
 	private static boolean canHarvestWithGiantPick(PlayerEntity player, BlockState state) {
 		ItemStack heldStack = player.getHeldItemMainhand();
 		Item heldItem = heldStack.getItem();
@@ -569,22 +604,19 @@ public class TFEventListener {
 			return false;
 		}
 
-		ChunkGeneratorTFBase chunkGenerator = TFWorld.getChunkGenerator(world);
+		// what feature is protecting this?  is it one the player has not unlocked?
+		TFProtectionIndex protection = TFProtectionIndex.get(world);
+		TFFeature protectingFeature = protection.getProtectingFeature(world, pos);
 
-		if (chunkGenerator != null && chunkGenerator.isBlockInStructureBB(pos)) {
-			// what feature is nearby?  is it one the player has not unlocked?
-			TFFeature nearbyFeature = TFFeature.getFeatureAt(pos.getX(), pos.getZ(), world);
+		if (protectingFeature != null && !protectingFeature.doesPlayerHaveRequiredAdvancements(player)) {
 
-			if (!nearbyFeature.doesPlayerHaveRequiredAdvancements(player) && chunkGenerator.isBlockProtected(pos)) {
+			// send protection packet
+			sendAreaProtectionPacket(world, pos, protection.getProtectedBox(world, pos));
 
-				// send protection packet
-				sendAreaProtectionPacket(world, pos, chunkGenerator.getSBBAt(pos));
+			// send a hint monster?
+			protectingFeature.trySpawnHintMonster(world, player, pos);
 
-				// send a hint monster?
-				nearbyFeature.trySpawnHintMonster(world, player, pos);
-
-				return true;
-			}
+			return true;
 		}
 		return false;
 	}
@@ -652,6 +684,17 @@ public class TFEventListener {
 				TFPacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), new PacketUpdateShield(entity, cap));
 			}
 		});
+		if (entity == player) {
+			player.getCapability(CapabilityList.PROGRESSION).ifPresent(cap -> {
+				long unlocked = ProgressionGates.getUnlocked(player);
+				if (cap.getGates() != unlocked) {
+					cap.setGates(unlocked);
+				} else {
+					// the client's player might be new, so send even if nothing changed
+					TFPacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), new PacketUpdateProgression(cap));
+				}
+			});
+		}
 	}
 
 	private static void sendEnforcedProgressionStatus(ServerPlayerEntity player, boolean isEnforced) {
@@ -689,6 +732,19 @@ public class TFEventListener {
 		}
 	}
 
+	/**
+	 * Drop anything kept per world that would otherwise keep the world around
+	 */
+	@SubscribeEvent
+	public static void worldUnloaded(WorldEvent.Unload event) {
+		if (!event.getWorld().isRemote()) {
+			BlockChangeWatchers.forgetWorld(event.getWorld());
+			ItemTFOreMeter.forgetWorld(event.getWorld().getWorld());
+			FlockTracker.forgetWorld(event.getWorld().getWorld());
+			GhastTrapRegistry.forgetWorld(event.getWorld().getWorld());
+		}
+	}
+
 	/**
 	 * Check if someone's changing the progression game rule
 	 */
@@ -723,6 +779,10 @@ public class TFEventListener {
 		PlayerEntity player = event.getPlayer();
 		if (player instanceof ServerPlayerEntity) {
 			TFAdvancements.ADVANCEMENT_UNLOCKED.trigger((ServerPlayerEntity) player, event.getAdvancement());
+			long gate = ProgressionGates.getMask(event.getAdvancement().getId());
+			if (gate != 0L) {
+				player.getCapability(CapabilityList.PROGRESSION).ifPresent(cap -> cap.setGates(cap.getGates() | gate));
+			}
 		}
 	}
 
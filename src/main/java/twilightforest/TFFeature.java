@@ -16,6 +16,7 @@ import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import twilightforest.biomes.TFBiomeBase;
+import twilightforest.capabilities.progression.ProgressionGates;
 import twilightforest.entity.*;
 import twilightforest.structures.ComponentTFHollowHill;
 import twilightforest.structures.courtyard.NagaCourtyardPieces;
@@ -28,7 +29,6 @@ import twilightforest.structures.start.*;
 import twilightforest.structures.stronghold.TFStrongholdPieces;
 import twilightforest.structures.trollcave.TFTrollCavePieces;
 import twilightforest.util.IntPair;
-import twilightforest.util.PlayerHelper;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -418,6 +418,8 @@ public enum TFFeature {
 	private List<Biome.SpawnListEntry> ambientCreatureList;
 	private List<Biome.SpawnListEntry> waterCreatureList;
 	private final ResourceLocation[] requiredAdvancements;
+	// requiredAdvancements as progression gates, worked out on first use once every gate is known
+	private long requiredGates = -1L;
 	public boolean hasProtectionAura;
 
 	private long lastSpawnedHintMonsterTime;
@@ -579,14 +581,20 @@ public enum TFFeature {
 	 * either generating this chunk for the first time, or using the magic map to forecast beyond the edge of the world.
 	 */
 	public static TFFeature generateFeature(int chunkX, int chunkZ, World world) {
+		int regionX = TFFeatureCache.getRegion(chunkX);
+		int regionZ = TFFeatureCache.getRegion(chunkZ);
+		return TFFeatureCache.get(world).getFeature(regionX, regionZ, () -> generateFeatureForRegion(regionX, regionZ, world));
+	}
+
+	private static TFFeature generateFeatureForRegion(int regionX, int regionZ, World world) {
 		// FIXME Remove block comment start-marker to enable debug
 		/*if (true) {
 			return NAGA_COURTYARD;
 		}//*/
 
 		// set the chunkX and chunkZ to the center of the biome
-		chunkX = Math.round(chunkX / 16F) * 16;
-		chunkZ = Math.round(chunkZ / 16F) * 16;
+		int chunkX = regionX * 16;
+		int chunkZ = regionZ * 16;
 
 		// what biome is at the center of the chunk?
 		Biome biomeAt = world.getBiome(new BlockPos((chunkX << 4) + 8, 0, (chunkZ << 4) + 8));
@@ -774,9 +782,13 @@ public enum TFFeature {
 	 */
 	public static BlockPos getNearestCenterXYZ(int cx, int cz, World world) {
 		// generate random number for the whole biome area
-		int regionX = (cx + 8) >> 4;
-		int regionZ = (cz + 8) >> 4;
+		int regionX = TFFeatureCache.getRegion(cx);
+		int regionZ = TFFeatureCache.getRegion(cz);
+
+		return TFFeatureCache.get(world).getCenter(regionX, regionZ, () -> getCenterForRegion(regionX, regionZ));
+	}
 
+	private static BlockPos getCenterForRegion(int regionX, int regionZ) {
 		long seed = (long) (regionX * 3129871) ^ (long) regionZ * 116129781L;
 		seed = seed * seed * 42317861L + seed * 7L;
 
@@ -836,8 +848,15 @@ public enum TFFeature {
 		return new ArrayList<>();
 	}
 
+	public ResourceLocation[] getRequiredAdvancements() {
+		return requiredAdvancements;
+	}
+
 	public boolean doesPlayerHaveRequiredAdvancements(PlayerEntity player) {
-		return PlayerHelper.doesPlayerHaveRequiredAdvancements(player, requiredAdvancements);
+		if (requiredGates == -1L) {
+			requiredGates = ProgressionGates.getMask(requiredAdvancements);
+		}
+		return ProgressionGates.hasGates(player, requiredGates, requiredAdvancements);
 	}
 
 	/**
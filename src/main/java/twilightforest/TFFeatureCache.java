@@ -0,0 +1,69 @@
+package twilightforest;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which feature goes in each 256x256 feature region, and where that region's feature chunk is.
+ * Both only depend on the world seed and the region coordinates, so once worked out they never change.
+ * <p>
+ * Regions are evicted least recently used first once a world has cached more than {@link #MAX_REGIONS}.
+ */
+final class TFFeatureCache {
+
+	private static final int MAX_REGIONS = 1024;
+
+	private static final Map<World, TFFeatureCache> CACHES = new WeakHashMap<>();
+
+	private final Long2ObjectLinkedOpenHashMap<TFFeature> features = new Long2ObjectLinkedOpenHashMap<>();
+	private final Long2ObjectLinkedOpenHashMap<BlockPos> centers = new Long2ObjectLinkedOpenHashMap<>();
+
+	private TFFeatureCache() {}
+
+	static TFFeatureCache get(World world) {
+		// chunks are generated off-thread, so all access to the caches has to be synchronized
+		synchronized (CACHES) {
+			return CACHES.computeIfAbsent(world, w -> new TFFeatureCache());
+		}
+	}
+
+	/**
+	 * Region coordinates for a chunk, the same as rounding to the nearest multiple of 16 chunks
+	 */
+	static int getRegion(int chunkCoord) {
+		return (chunkCoord + 8) >> 4;
+	}
+
+	TFFeature getFeature(int regionX, int regionZ, Supplier<TFFeature> generator) {
+		return getOrCompute(features, ChunkPos.asLong(regionX, regionZ), generator);
+	}
+
+	BlockPos getCenter(int regionX, int regionZ, Supplier<BlockPos> generator) {
+		return getOrCompute(centers, ChunkPos.asLong(regionX, regionZ), generator);
+	}
+
+	private <T> T getOrCompute(Long2ObjectLinkedOpenHashMap<T> map, long key, Supplier<T> generator) {
+		T value;
+		synchronized (this) {
+			value = map.getAndMoveToLast(key);
+		}
+
+		// don't hold the lock while generating, working out a feature can look up biomes
+		if (value == null) {
+			value = generator.get();
+			synchronized (this) {
+				map.putAndMoveToLast(key, value);
+				if (map.size() > MAX_REGIONS) {
+					map.removeFirst();
+				}
+			}
+		}
+		return value;
+	}
+}
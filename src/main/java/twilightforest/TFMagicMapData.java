@@ -12,8 +12,11 @@ import net.minecraft.world.storage.MapData;
 import net.minecraft.world.storage.MapDecoration;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import twilightforest.util.BiomeGrid;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -22,6 +25,18 @@ public class TFMagicMapData extends MapData {
 
 	public final Set<TFMapDecoration> tfDecorations = new HashSet<>();
 
+	/**
+	 * One biome per map pixel, sampled once from the generation map the first time the map is updated.
+	 * Server-side only and never saved, the biomes are deterministic for the seed so they can always be resampled.
+	 */
+	@Nullable
+	public BiomeGrid pixelBiomes;
+
+	/**
+	 * Pixels that have already been painted with their final colour and checked for features, so they can be skipped
+	 */
+	public final BitSet revealedPixels = new BitSet(128 * 128);
+
 	public TFMagicMapData(String name) {
 		super(name);
 	}
@@ -0,0 +1,120 @@
+package twilightforest;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.storage.WorldSavedData;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+/**
+ * Every twilight portal block in a dimension, so the teleporter can find the nearest portal without loading and
+ * scanning every chunk around the destination.
+ * <p>
+ * Portal blocks add and remove themselves as they are placed and replaced. Portals from before the index existed
+ * are added the first time something walks through them.
+ */
+public class TFPortalIndex extends WorldSavedData {
+
+	private static final String NAME = TwilightForestMod.ID + "_portals";
+
+	// portal block positions, bucketed by chunk
+	private final Long2ObjectMap<LongSet> byChunk = new Long2ObjectOpenHashMap<>();
+
+	public TFPortalIndex() {
+		super(NAME);
+	}
+
+	public static TFPortalIndex get(ServerWorld world) {
+		return world.getSavedData().getOrCreate(TFPortalIndex::new, NAME);
+	}
+
+	public void add(BlockPos pos) {
+		if (byChunk.computeIfAbsent(getChunkKey(pos), k -> new LongOpenHashSet()).add(pos.toLong())) {
+			markDirty();
+		}
+	}
+
+	public void remove(BlockPos pos) {
+		long chunkKey = getChunkKey(pos);
+		LongSet portals = byChunk.get(chunkKey);
+		if (portals != null && portals.remove(pos.toLong())) {
+			if (portals.isEmpty()) {
+				byChunk.remove(chunkKey);
+			}
+			markDirty();
+		}
+	}
+
+	/**
+	 * Finds the portal block nearest to the position, no further than range away on either horizontal axis.
+	 * Like the old column scan, the position returned is the bottom portal block of its column.
+	 */
+	@Nullable
+	public BlockPos findNearest(BlockPos pos, int range, Predicate<BlockPos> filter) {
+		BlockPos nearest = null;
+		double nearestDist = -1.0D;
+
+		for (int cx = (pos.getX() - range) >> 4; cx <= (pos.getX() + range) >> 4; cx++) {
+			for (int cz = (pos.getZ() - range) >> 4; cz <= (pos.getZ() + range) >> 4; cz++) {
+				LongSet portals = byChunk.get(ChunkPos.asLong(cx, cz));
+				if (portals == null) {
+					continue;
+				}
+
+				for (long key : portals) {
+					int x = BlockPos.unpackX(key), z = BlockPos.unpackZ(key);
+					if (Math.abs(x - pos.getX()) > range || Math.abs(z - pos.getZ()) > range) {
+						continue;
+					}
+
+					BlockPos portal = getBottom(portals, key);
+					double dist = portal.distanceSq(pos);
+					if ((nearestDist < 0.0D || dist < nearestDist) && filter.test(portal)) {
+						nearest = portal;
+						nearestDist = dist;
+					}
+				}
+			}
+		}
+
+		return nearest;
+	}
+
+	private static BlockPos getBottom(LongSet portals, long key) {
+		long below;
+		while (portals.contains(below = BlockPos.offset(key, 0, -1, 0))) {
+			key = below;
+		}
+		return BlockPos.fromLong(key);
+	}
+
+	private static long getChunkKey(BlockPos pos) {
+		return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+	}
+
+	@Override
+	public void read(CompoundNBT nbt) {
+		byChunk.clear();
+		for (long key : nbt.getLongArray("Portals")) {
+			byChunk.computeIfAbsent(ChunkPos.asLong(BlockPos.unpackX(key) >> 4, BlockPos.unpackZ(key) >> 4), k -> new LongOpenHashSet()).add(key);
+		}
+	}
+
+	@Override
+	public CompoundNBT write(CompoundNBT nbt) {
+		LongArrayList portals = new LongArrayList();
+		for (LongSet chunkPortals : byChunk.values()) {
+			portals.addAll(chunkPortals);
+		}
+		nbt.putLongArray("Portals", portals.toLongArray());
+		return nbt;
+	}
+}
@@ -0,0 +1,256 @@
+package twilightforest;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.gen.feature.structure.StructurePiece;
+import net.minecraft.world.gen.feature.structure.StructureStart;
+import twilightforest.structures.StructureTFComponent;
+import twilightforest.structures.start.StructureStartTFFeatureAbstract;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Which blocks in a world are protected by an unconquered structure, summed up per chunk so checking a position
+ * doesn't have to go through the structure starts.
+ * <p>
+ * Every chunk a feature structure covers holds a reference to the chunk the structure starts in. While a chunk is
+ * loaded its references are kept here, and the first time a position in it is checked, each referenced structure
+ * gets a bitmap of the chunk's 4x4x4 cells that its protected components touch, and another of the cells entirely
+ * inside one. Most positions are answered from the bitmaps alone, only the cells on a component's edge go back to
+ * the components.
+ * <p>
+ * Whether a structure is conquered is looked up from its start each time, so conquering it lifts the protection
+ * straight away, however it was conquered.
+ */
+public final class TFProtectionIndex {
+
+	// 4 cells across, 4 cells deep and 64 cells up a chunk
+	private static final int CELL_LONGS = 4 * 4 * 64 / Long.SIZE;
+
+	private static final Map<World, TFProtectionIndex> INDEXES = new WeakHashMap<>();
+
+	private final Long2ObjectMap<List<StartReference>> references = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<List<ChunkProtection>> protection = new Long2ObjectOpenHashMap<>();
+
+	private TFProtectionIndex() {}
+
+	public static TFProtectionIndex get(World world) {
+		synchronized (INDEXES) {
+			return INDEXES.computeIfAbsent(world, w -> new TFProtectionIndex());
+		}
+	}
+
+	/**
+	 * Keeps the chunk's references to feature structures until it unloads
+	 */
+	public synchronized void addChunk(IChunk chunk) {
+		List<StartReference> chunkReferences = new ArrayList<>(1);
+		for (Map.Entry<String, LongSet> entry : chunk.getStructureReferences().entrySet()) {
+			if (TFFeature.getFeatureByName(entry.getKey()) == TFFeature.NOTHING) {
+				continue;
+			}
+			for (long startChunk : entry.getValue()) {
+				chunkReferences.add(new StartReference(entry.getKey(), startChunk));
+			}
+		}
+
+		long chunkKey = chunk.getPos().asLong();
+		protection.remove(chunkKey);
+		if (chunkReferences.isEmpty()) {
+			references.remove(chunkKey);
+		} else {
+			references.put(chunkKey, chunkReferences);
+		}
+	}
+
+	public synchronized void removeChunk(IChunk chunk) {
+		long chunkKey = chunk.getPos().asLong();
+		references.remove(chunkKey);
+		protection.remove(chunkKey);
+	}
+
+	/**
+	 * @return the feature protecting the position, or null if nothing is
+	 */
+	@Nullable
+	public synchronized TFFeature getProtectingFeature(World world, BlockPos pos) {
+		if (World.isOutsideBuildHeight(pos)) {
+			return null;
+		}
+
+		int cell = getCell(pos.getX() & 15, pos.getY(), pos.getZ() & 15);
+		for (ChunkProtection chunkProtection : getProtection(world, pos)) {
+			if (!isSet(chunkProtection.touched, cell)) {
+				continue;
+			}
+
+			StructureStartTFFeatureAbstract start = chunkProtection.reference.getStart(world);
+			if (start == null || start.isConquered) {
+				continue;
+			}
+
+			// on the edge of a component, so check properly
+			if (isSet(chunkProtection.inside, cell) || getProtectingComponent(start, pos) != null) {
+				return start.getFeature();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the bounding box of the component protecting the position, or null if nothing is
+	 */
+	@Nullable
+	public synchronized MutableBoundingBox getProtectedBox(World world, BlockPos pos) {
+		for (ChunkProtection chunkProtection : getProtection(world, pos)) {
+			StructureStartTFFeatureAbstract start = chunkProtection.reference.getStart(world);
+			if (start == null || start.isConquered) {
+				continue;
+			}
+
+			StructurePiece component = getProtectingComponent(start, pos);
+			if (component != null) {
+				return component.getBoundingBox();
+			}
+		}
+		return null;
+	}
+
+	private List<ChunkProtection> getProtection(World world, BlockPos pos) {
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		List<StartReference> chunkReferences = references.get(chunkKey);
+		if (chunkReferences == null) {
+			return Collections.emptyList();
+		}
+
+		List<ChunkProtection> chunkProtection = protection.get(chunkKey);
+		if (chunkProtection == null) {
+			chunkProtection = build(world, chunkKey, chunkReferences);
+			protection.put(chunkKey, chunkProtection);
+		}
+		return chunkProtection;
+	}
+
+	/**
+	 * Marks what each structure protects in the chunk, conquered or not, since that can change
+	 */
+	private static List<ChunkProtection> build(World world, long chunk, List<StartReference> chunkReferences) {
+		int minX = ChunkPos.getX(chunk) << 4;
+		int minZ = ChunkPos.getZ(chunk) << 4;
+		MutableBoundingBox chunkBox = new MutableBoundingBox(minX, 0, minZ, minX + 15, 255, minZ + 15);
+
+		List<ChunkProtection> built = new ArrayList<>(chunkReferences.size());
+		for (StartReference reference : chunkReferences) {
+			StructureStartTFFeatureAbstract start = reference.getStart(world);
+			if (start == null) {
+				continue;
+			}
+
+			ChunkProtection chunkProtection = new ChunkProtection(reference);
+			for (StructurePiece component : start.getComponentsIntersecting(chunkBox)) {
+				if (isProtected(component)) {
+					chunkProtection.mark(component.getBoundingBox(), minX, minZ);
+				}
+			}
+			built.add(chunkProtection);
+		}
+		return built;
+	}
+
+	@Nullable
+	private static StructurePiece getProtectingComponent(StructureStartTFFeatureAbstract start, BlockPos pos) {
+		for (StructurePiece component : start.getComponentsIntersecting(new MutableBoundingBox(pos, pos))) {
+			if (isProtected(component)) {
+				return component;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isProtected(StructurePiece component) {
+		return component instanceof StructureTFComponent && ((StructureTFComponent) component).isComponentProtected();
+	}
+
+	private static int getCell(int x, int y, int z) {
+		return (y >> 2) << 4 | (z >> 2) << 2 | x >> 2;
+	}
+
+	private static boolean isSet(long[] bits, int cell) {
+		return (bits[cell >> 6] & 1L << cell) != 0L;
+	}
+
+	/**
+	 * A chunk's reference to the chunk a structure starts in
+	 */
+	private static class StartReference {
+		final String structure;
+		final long startChunk;
+
+		StartReference(String structure, long startChunk) {
+			this.structure = structure;
+			this.startChunk = startChunk;
+		}
+
+		/**
+		 * Looks the start up from its chunk, loading that as far as its structure starts if it isn't loaded
+		 */
+		@Nullable
+		StructureStartTFFeatureAbstract getStart(World world) {
+			IChunk chunk = world.getChunk(ChunkPos.getX(startChunk), ChunkPos.getZ(startChunk), ChunkStatus.STRUCTURE_STARTS);
+			StructureStart start = chunk.getStructureStart(structure);
+			return start instanceof StructureStartTFFeatureAbstract && start.isValid() ? (StructureStartTFFeatureAbstract) start : null;
+		}
+	}
+
+	private static class ChunkProtection {
+		final StartReference reference;
+		// cells a protected component touches at all
+		final long[] touched = new long[CELL_LONGS];
+		// cells entirely inside a protected component
+		final long[] inside = new long[CELL_LONGS];
+
+		ChunkProtection(StartReference reference) {
+			this.reference = reference;
+		}
+
+		void mark(MutableBoundingBox box, int chunkX, int chunkZ) {
+			int minX = Math.max(box.minX, chunkX) - chunkX;
+			int maxX = Math.min(box.maxX, chunkX + 15) - chunkX;
+			int minY = Math.max(box.minY, 0);
+			int maxY = Math.min(box.maxY, 255);
+			int minZ = Math.max(box.minZ, chunkZ) - chunkZ;
+			int maxZ = Math.min(box.maxZ, chunkZ + 15) - chunkZ;
+			if (minX > maxX || minY > maxY || minZ > maxZ) {
+				return;
+			}
+
+			for (int y = minY >> 2; y <= maxY >> 2; y++) {
+				boolean insideY = y << 2 >= box.minY && (y << 2) + 3 <= box.maxY;
+				for (int z = minZ >> 2; z <= maxZ >> 2; z++) {
+					boolean insideZ = chunkZ + (z << 2) >= box.minZ && chunkZ + (z << 2) + 3 <= box.maxZ;
+					for (int x = minX >> 2; x <= maxX >> 2; x++) {
+						boolean insideX = chunkX + (x << 2) >= box.minX && chunkX + (x << 2) + 3 <= box.maxX;
+
+						int cell = y << 4 | z << 2 | x;
+						touched[cell >> 6] |= 1L << cell;
+						if (insideX && insideY && insideZ) {
+							inside[cell >> 6] |= 1L << cell;
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -13,7 +13,6 @@ import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.Teleporter;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.server.ServerWorld;
 import twilightforest.block.BlockTFPortal;
 import twilightforest.block.TFBlocks;
@@ -157,57 +156,20 @@ public class TFTeleporter extends Teleporter {
 			portalPosition.lastUpdateTime = this.world.getTotalWorldTime();
 			flag = false;
 		} else {
+			// TF - look the nearest portal up in the portal index, instead of loading and scanning every column in range
 			BlockPos blockpos3 = new BlockPos(entity);
-
-			for (int i1 = -i; i1 <= i; ++i1) {
-				BlockPos blockpos2;
-
-				for (int j1 = -i; j1 <= i; ++j1) {
-
-					// TF - skip positions outside current world border (MC-114796)
-					if (!this.world.getWorldBorder().contains(blockpos3.add(i1, 0, j1))) {
-						continue;
-					}
-
-					// TF - skip chunks that aren't generated
-					ChunkPos chunkPos = new ChunkPos(blockpos3.add(i1, 0, j1));
-					if (!this.world.isChunkGeneratedAt(chunkPos.x, chunkPos.z)) {
-						continue;
-					}
-
-					// TF - explicitly fetch chunk so it can be unloaded if needed
-					Chunk chunk = this.world.getChunk(chunkPos.x, chunkPos.z);
-
-					for (BlockPos blockpos1 = blockpos3.add(i1, getScanHeight(blockpos3) - blockpos3.getY(), j1); blockpos1.getY() >= 0; blockpos1 = blockpos2) {
-						blockpos2 = blockpos1.down();
-
-						// TF - don't lookup state if inner condition would fail
-						if (d0 >= 0.0D && blockpos1.distanceSq(blockpos3) >= d0) {
-							continue;
-						}
-
-						// TF - use our portal block
-						if (isPortal(chunk.getBlockState(blockpos1))) {
-							for (blockpos2 = blockpos1.down(); isPortal(chunk.getBlockState(blockpos2)); blockpos2 = blockpos2.down()) {
-								blockpos1 = blockpos2;
-							}
-
-							double d1 = blockpos1.distanceSq(blockpos3);
-
-							if (d0 < 0.0D || d1 < d0) {
-								d0 = d1;
-								blockpos = blockpos1;
-								// TF - restrict search radius to new distance
-								i = MathHelper.ceil(MathHelper.sqrt(d1));
-							}
-						}
-					}
-
-					// TF - mark unwatched chunks for unload
-					if (!this.world.getPlayerChunkMap().contains(chunkPos.x, chunkPos.z)) {
-						this.world.getChunkProvider().queueUnload(chunk);
-					}
+			TFPortalIndex index = TFPortalIndex.get(this.world);
+			BlockPos blockpos1;
+
+			// TF - skip positions outside current world border (MC-114796)
+			while ((blockpos1 = index.findNearest(blockpos3, i, pos -> this.world.getWorldBorder().contains(pos))) != null) {
+				if (isPortalAt(blockpos1)) {
+					d0 = blockpos1.distanceSq(blockpos3);
+					blockpos = blockpos1;
+					break;
 				}
+				// TF - no longer there, the world must have been edited outside the game
+				index.remove(blockpos1);
 			}
 		}
 
@@ -238,10 +200,6 @@ public class TFTeleporter extends Teleporter {
 		}
 	}
 
-	private int getScanHeight(BlockPos pos) {
-		return getScanHeight(pos.getX(), pos.getZ());
-	}
-
 	private int getScanHeight(int x, int z) {
 		int worldHeight = world.getActualHeight() - 1;
 		int chunkHeight = world.getChunk(x >> 4, z >> 4).getTopFilledSegment() + 15;
@@ -287,6 +245,8 @@ public class TFTeleporter extends Teleporter {
 
 		if (spot != null) {
 			TwilightForestMod.LOGGER.debug("Found existing portal for {} at {}", name, spot);
+			// might be from before portals were indexed
+			TFPortalIndex.get(world).add(spot);
 			cachePortalCoords(entity, spot);
 			return true;
 		}
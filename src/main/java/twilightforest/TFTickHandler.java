@@ -12,12 +12,15 @@ import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.network.PacketDistributor;
 import twilightforest.advancements.TFAdvancements;
 import twilightforest.biomes.TFBiomeBase;
 import twilightforest.block.TFBlocks;
+import twilightforest.block.VanishingWaves;
+import twilightforest.entity.ai.FlockTracker;
 import twilightforest.network.PacketStructureProtection;
 import twilightforest.network.PacketStructureProtectionClear;
 import twilightforest.network.TFPacketHandler;
@@ -25,12 +28,31 @@ import twilightforest.util.StructureBoundingBoxUtils;
 import twilightforest.world.ChunkGeneratorTFBase;
 import twilightforest.world.TFWorld;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
 
 @Mod.EventBusSubscriber(modid = TwilightForestMod.ID)
 public class TFTickHandler {
 
+	private static final Map<PlayerEntity, ProtectionState> PROTECTION_STATES = new WeakHashMap<>();
+
+	@SubscribeEvent
+	public static void worldTick(TickEvent.WorldTickEvent event) {
+		if (!event.world.isRemote && event.phase == TickEvent.Phase.END) {
+			VanishingWaves.tick(event.world);
+			FlockTracker.tick(event.world);
+		}
+	}
+
+	@SubscribeEvent
+	public static void playerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+		// the client forgets the protection box when it changes worlds, so send it again when the player comes back
+		PROTECTION_STATES.remove(event.getPlayer());
+	}
+
 	@SubscribeEvent
 	public static void playerTick(TickEvent.PlayerTickEvent event) {
 
@@ -60,8 +82,8 @@ public class TFTickHandler {
 			checkBiomeForProgression(player, world);
 		}
 
-		// check and send nearby forbidden structures, every 100 ticks or so
-		if (!world.isRemote && event.phase == TickEvent.Phase.END && player.ticksExisted % 100 == 0 && TFWorld.isProgressionEnforced(world)) {
+		// check and send nearby forbidden structures, every 100 ticks or so, staggered so players aren't all checked on the same tick
+		if (!world.isRemote && event.phase == TickEvent.Phase.END && (player.ticksExisted + player.getEntityId()) % 100 == 0 && TFWorld.isProgressionEnforced(world)) {
 			if (TFWorld.isTwilightForest(world)) {
 				if (player.isCreative() || player.isSpectator()) {
 					sendAllClearPacket(world, player);
@@ -73,17 +95,25 @@ public class TFTickHandler {
 	}
 
 	private static void sendStructureProtectionPacket(World world, PlayerEntity player, MutableBoundingBox sbb) {
-		if (player instanceof ServerPlayerEntity) {
+		ProtectionState state = getProtectionState(player);
+		if (player instanceof ServerPlayerEntity && !state.hasSent(world, sbb)) {
 			TFPacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) player), new PacketStructureProtection(sbb));
+			state.setSent(world, sbb);
 		}
 	}
 
 	private static void sendAllClearPacket(World world, PlayerEntity player) {
-		if (player instanceof ServerPlayerEntity) {
+		ProtectionState state = getProtectionState(player);
+		if (player instanceof ServerPlayerEntity && !state.hasSent(world, null)) {
 			TFPacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) player), new PacketStructureProtectionClear());
+			state.setSent(world, null);
 		}
 	}
 
+	private static ProtectionState getProtectionState(PlayerEntity player) {
+		return PROTECTION_STATES.computeIfAbsent(player, p -> new ProtectionState());
+	}
+
 	@SuppressWarnings("UnusedReturnValue")
 	private static boolean checkForLockedStructuresSendPacket(PlayerEntity player, World world) {
 
@@ -111,6 +141,35 @@ public class TFTickHandler {
 		return false;
 	}
 
+	/**
+	 * What we last told a player about structure protection, so packets are only sent when that changes
+	 */
+	private static class ProtectionState {
+		private World sentWorld;
+		@Nullable
+		private MutableBoundingBox sentBox;
+
+		/**
+		 * @param box the protected box, or null for the all clear
+		 */
+		boolean hasSent(World world, @Nullable MutableBoundingBox box) {
+			// the client forgets the box when it changes worlds
+			if (world != sentWorld) {
+				return false;
+			}
+			if (box == null || sentBox == null) {
+				return box == sentBox;
+			}
+			return box.minX == sentBox.minX && box.minY == sentBox.minY && box.minZ == sentBox.minZ
+					&& box.maxX == sentBox.maxX && box.maxY == sentBox.maxY && box.maxZ == sentBox.maxZ;
+		}
+
+		void setSent(World world, @Nullable MutableBoundingBox box) {
+			this.sentWorld = world;
+			this.sentBox = box != null ? new MutableBoundingBox(box) : null;
+		}
+	}
+
 	private static void checkForPortalCreation(PlayerEntity player, World world, float rangeToCheck) {
 		if (world.dimension.getDimension() == TFConfig.originDimension
 				|| world.dimension.getDimension() == TFConfig.dimension.dimensionID
@@ -1,6 +1,10 @@
 package twilightforest;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.item.Rarity;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.resources.IReloadableResourceManager;
+import net.minecraft.resources.IResourceManagerReloadListener;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraftforge.common.MinecraftForge;
@@ -20,9 +24,11 @@ import twilightforest.biomes.TFBiomes;
 import twilightforest.block.TFBlocks;
 import twilightforest.capabilities.CapabilityList;
 import twilightforest.client.particle.TFParticleType;
+import twilightforest.client.renderer.TFSkyRenderer;
 import twilightforest.command.TFCommand;
 import twilightforest.compat.TFCompat;
 import twilightforest.entity.TFEntities;
+import twilightforest.inventory.UncraftingRecipeIndex;
 import twilightforest.item.*;
 import twilightforest.loot.TFTreasure;
 import twilightforest.network.TFPacketHandler;
@@ -150,10 +156,16 @@ public class TwilightForestMod {
 		ItemTFYetiArmor.initArmorModel();
 		ItemTFArcticArmor.initArmorModel();
 		ItemTFFieryArmor.initArmorModel();
+
+		// the star buffer goes with the rest of the resources, and comes back on the next frame
+		((IReloadableResourceManager) Minecraft.getInstance().getResourceManager()).addReloadListener((IResourceManagerReloadListener) resourceManager -> TFSkyRenderer.invalidateStars());
 	}
 
 	public void startServer(FMLServerStartingEvent event) {
 		TFCommand.register(event.getCommandDispatcher());
+
+		RecipeManager recipeManager = event.getServer().getRecipeManager();
+		event.getServer().getResourceManager().addReloadListener((IResourceManagerReloadListener) resourceManager -> UncraftingRecipeIndex.invalidate(recipeManager));
 	}
 
 	/*private static void registerDimension() { TODO: move all this to a deferred registry
@@ -9,10 +9,10 @@ import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.ChunkPrimer;
 import twilightforest.TFFeature;
+import twilightforest.capabilities.progression.ProgressionGates;
 import twilightforest.entity.EntityTFKobold;
 import twilightforest.entity.TFEntities;
 import twilightforest.entity.passive.*;
-import twilightforest.util.PlayerHelper;
 import twilightforest.world.ChunkGeneratorTFBase;
 import twilightforest.world.TFWorld;
 
@@ -29,6 +29,8 @@ public class TFBiomeBase extends Biome {
 	protected final List<SpawnListEntry> undergroundMonsterList = new ArrayList<>();
 
 	protected final ResourceLocation[] requiredAdvancements = getRequiredAdvancements();
+	// requiredAdvancements as progression gates, worked out on first use once every gate is known
+	private long requiredGates = -1L;
 
 	public final TFFeature containedFeature = getContainedFeature();
 
@@ -197,7 +199,14 @@ public class TFBiomeBase extends Biome {
 	 * Does the player have the advancements needed to be in this biome?
 	 */
 	public boolean doesPlayerHaveRequiredAdvancements(PlayerEntity player) {
-		return PlayerHelper.doesPlayerHaveRequiredAdvancements(player, requiredAdvancements);
+		if (requiredGates == -1L) {
+			requiredGates = ProgressionGates.getMask(requiredAdvancements);
+		}
+		return ProgressionGates.hasGates(player, requiredGates, requiredAdvancements);
+	}
+
+	public final ResourceLocation[] getRequiredAdvancementIds() {
+		return requiredAdvancements;
 	}
 
 	protected ResourceLocation[] getRequiredAdvancements() {
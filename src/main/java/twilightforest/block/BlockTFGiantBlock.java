@@ -34,6 +34,7 @@ public abstract class BlockTFGiantBlock extends Block {
 	@Override
 	public void onBlockPlacedBy(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack stack) {
 		if (!world.isRemote) {
+			// one at a time through the world, so a cancelled placement can put every block back
 			for (BlockPos dPos : getVolume(pos)) {
 				world.setBlockState(dPos, getDefaultState(), 2);
 			}
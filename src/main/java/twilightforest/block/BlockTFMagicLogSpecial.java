@@ -17,6 +17,7 @@ import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.server.ServerWorld;
 import twilightforest.enums.MagicWoodVariant;
@@ -25,6 +26,7 @@ import twilightforest.item.ItemTFOreMagnet;
 import twilightforest.util.WorldUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -196,39 +198,19 @@ public class BlockTFMagicLogSpecial extends LogBlock {
 
 		// find all the chests nearby
 		List<IInventory> chests = new ArrayList<>();
+		List<int[]> chestFilledSlots = new ArrayList<>();
 		int itemCount = 0;
 
-		for (BlockPos iterPos : WorldUtil.getAllAround(pos, 16)) {
+		for (IInventory chestInventory : findChestsAround(world, pos, 16)) {
 
-			IInventory chestInventory = null, teInventory = null;
+			// note down which slots have items, so we only have to read every slot once
+			int[] filledSlots = getFilledSlots(chestInventory);
+			itemCount += filledSlots.length;
 
-			Block block = world.getBlockState(iterPos).getBlock();
-			if (block instanceof ChestBlock) {
-				//chestInventory = ((ChestBlock) block).getContainer(world, iterPos, true);
-				chestInventory = ChestBlock.getInventory((ChestBlock) block, block.getDefaultState(), world, iterPos, true);
-			}
-
-			TileEntity te = world.getTileEntity(iterPos);
-			if (te instanceof IInventory && !te.isRemoved()) {
-				teInventory = (IInventory) te;
-			}
-
-			// make sure we haven't counted this chest
-			if (chestInventory != null && teInventory != null && !checkIfChestsContains(chests, teInventory)) {
-
-				boolean empty = true;
-				// count items
-				for (int i = 0; i < chestInventory.getSizeInventory(); i++) {
-					if (!chestInventory.getStackInSlot(i).isEmpty()) {
-						empty = false;
-						itemCount++;
-					}
-				}
-
-				// only add non-empty chests
-				if (!empty) {
-					chests.add(chestInventory);
-				}
+			// only add non-empty chests
+			if (filledSlots.length > 0) {
+				chests.add(chestInventory);
+				chestFilledSlots.add(filledSlots);
 			}
 		}
 
@@ -242,21 +224,16 @@ public class BlockTFMagicLogSpecial extends LogBlock {
 		if (itemCount == 0) return;
 
 		int itemNumber = rand.nextInt(itemCount);
-		int currentNumber = 0;
 
 		for (int i = 0; i < chests.size(); i++) {
-			IInventory chest = chests.get(i);
-			for (int slotNum = 0; slotNum < chest.getSizeInventory(); slotNum++) {
-				ItemStack currentItem = chest.getStackInSlot(slotNum);
-
-				if (!currentItem.isEmpty()) {
-					if (currentNumber++ == itemNumber) {
-						beingSorted = currentItem;
-						sortedChestNum = i;
-						sortedSlotNum = slotNum;
-					}
-				}
+			int[] filledSlots = chestFilledSlots.get(i);
+			if (itemNumber < filledSlots.length) {
+				sortedChestNum = i;
+				sortedSlotNum = filledSlots[itemNumber];
+				beingSorted = chests.get(i).getStackInSlot(sortedSlotNum);
+				break;
 			}
+			itemNumber -= filledSlots.length;
 		}
 
 		//TwilightForestMod.LOGGER.info("Decided to sort item " + beingSorted);
@@ -271,7 +248,7 @@ public class BlockTFMagicLogSpecial extends LogBlock {
 			IInventory chest = chests.get(chestNum);
 			int currentChestMatches = 0;
 
-			for (int slotNum = 0; slotNum < chest.getSizeInventory(); slotNum++) {
+			for (int slotNum : chestFilledSlots.get(chestNum)) {
 
 				ItemStack currentItem = chest.getStackInSlot(slotNum);
 				if (!currentItem.isEmpty() && isSortingMatch(beingSorted, currentItem)) {
@@ -306,8 +283,9 @@ public class BlockTFMagicLogSpecial extends LogBlock {
 
 		// if the stack is not full, combine items from other stacks
 		if (beingSorted.getCount() < beingSorted.getMaxStackSize()) {
-			for (IInventory chest : chests) {
-				for (int slotNum = 0; slotNum < chest.getSizeInventory(); slotNum++) {
+			for (int chestNum = 0; chestNum < chests.size(); chestNum++) {
+				IInventory chest = chests.get(chestNum);
+				for (int slotNum : chestFilledSlots.get(chestNum)) {
 					ItemStack currentItem = chest.getStackInSlot(slotNum);
 
 					if (!currentItem.isEmpty() && currentItem != beingSorted && beingSorted.isItemEqual(currentItem)) {
@@ -322,6 +300,57 @@ public class BlockTFMagicLogSpecial extends LogBlock {
 		}
 	}
 
+	/**
+	 * Finds the chests within range by looking through the tile entities of the chunks in range,
+	 * rather than checking every block position.
+	 */
+	private List<IInventory> findChestsAround(World world, BlockPos pos, int range) {
+		List<IInventory> found = new ArrayList<>();
+
+		for (int cx = (pos.getX() - range) >> 4; cx <= (pos.getX() + range) >> 4; cx++) {
+			for (int cz = (pos.getZ() - range) >> 4; cz <= (pos.getZ() + range) >> 4; cz++) {
+				Chunk chunk = world.getChunk(cx, cz);
+
+				for (TileEntity te : chunk.getTileEntityMap().values()) {
+					BlockPos tePos = te.getPos();
+					if (!(te instanceof IInventory) || te.isRemoved()
+							|| Math.abs(tePos.getX() - pos.getX()) > range
+							|| Math.abs(tePos.getY() - pos.getY()) > range
+							|| Math.abs(tePos.getZ() - pos.getZ()) > range) {
+						continue;
+					}
+
+					Block block = world.getBlockState(tePos).getBlock();
+					if (block instanceof ChestBlock) {
+						//chestInventory = ((ChestBlock) block).getContainer(world, iterPos, true);
+						IInventory chestInventory = ChestBlock.getInventory((ChestBlock) block, block.getDefaultState(), world, tePos, true);
+
+						// make sure we haven't counted this chest
+						if (chestInventory != null && !checkIfChestsContains(found, (IInventory) te)) {
+							found.add(chestInventory);
+						}
+					}
+				}
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * @return the slot numbers in the chest that are not empty
+	 */
+	private int[] getFilledSlots(IInventory chest) {
+		int[] slots = new int[chest.getSizeInventory()];
+		int count = 0;
+		for (int i = 0; i < chest.getSizeInventory(); i++) {
+			if (!chest.getStackInSlot(i).isEmpty()) {
+				slots[count++] = i;
+			}
+		}
+		return Arrays.copyOf(slots, count);
+	}
+
 	private boolean isSortingMatch(ItemStack beingSorted, ItemStack currentItem) {
 		return beingSorted.getItem().getGroup() == currentItem.getItem().getGroup();
 	}
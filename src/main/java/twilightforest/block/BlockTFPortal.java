@@ -28,6 +28,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.apache.commons.lang3.mutable.MutableInt;
 import twilightforest.TFConfig;
+import twilightforest.TFPortalIndex;
 import twilightforest.TFTeleporter;
 import twilightforest.TwilightForestMod;
 
@@ -204,8 +205,30 @@ public class BlockTFPortal extends BreakableBlock {
 //		return BlockRenderLayer.TRANSLUCENT;
 //	}
 
+	@Override
+	@Deprecated
+	public void onBlockAdded(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+		if (world instanceof ServerWorld && oldState.getBlock() != this) {
+			TFPortalIndex.get((ServerWorld) world).add(pos);
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void onReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+		if (world instanceof ServerWorld && newState.getBlock() != this) {
+			TFPortalIndex.get((ServerWorld) world).remove(pos);
+		}
+		super.onReplaced(state, world, pos, newState, isMoving);
+	}
+
 	@Override
 	public void onEntityCollision(BlockState state, World worldIn, BlockPos pos, Entity entity) {
+		// portals built before they were indexed get picked up once they're used
+		if (worldIn instanceof ServerWorld) {
+			TFPortalIndex.get((ServerWorld) worldIn).add(pos);
+		}
+
 		if (state == this.getDefaultState()) {
 			attemptSendPlayer(entity, false);
 		}
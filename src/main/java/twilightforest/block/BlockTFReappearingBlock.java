@@ -123,10 +123,8 @@ public class BlockTFReappearingBlock extends Block {
 			world.playSound(null, pos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 0.3F, 0.5F);
 			//world.markBlockRangeForRenderUpdate(x, y, z, x, y, z);
 
-			// activate all adjacent inactive vanish blocks
-			for (Direction e : Direction.values()) {
-				checkAndActivateVanishBlock(world, pos.offset(e));
-			}
+			// activate all connected inactive vanish blocks
+			VanishingWaves.onVanished(world, pos);
 		}
 	}
 
@@ -184,16 +182,8 @@ public class BlockTFReappearingBlock extends Block {
 	/**
 	 * If the targeted block is a vanishing block, activate it
 	 */
-	public static void checkAndActivateVanishBlock(World world, BlockPos pos) {
-		BlockState state = world.getBlockState(pos);
-
-		if (state == TFBlocks.vanishing_block.get().getDefaultState().with(BlockTFVanishingBlock.ACTIVE, false) || state == TFBlocks.locked_vanishing_block.get().getDefaultState().with(BlockTFLockedVanishing.LOCKED, false) && !areBlocksLocked(world, pos)) {
-			changeToActiveVanishBlock(world, pos, TFBlocks.vanishing_block.get().getDefaultState().with(BlockTFVanishingBlock.ACTIVE, true));
-		} else if (state == TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, false) && !areBlocksLocked(world, pos)) {
-			changeToActiveVanishBlock(world, pos, TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, true));
-		} else if (state == TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, false)) {
-			changeToActiveVanishBlock(world, pos, TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, true));
-		}
+	public static boolean checkAndActivateVanishBlock(World world, BlockPos pos) {
+		return BlockTFVanishingBlock.checkAndActivateVanishBlock(world, pos);
 	}
 
 	public static void changeToActiveVanishBlock(World world, BlockPos pos, boolean variant) {
@@ -206,19 +196,19 @@ public class BlockTFReappearingBlock extends Block {
 	public static void changeToActiveVanishBlock(World world, BlockPos pos, BlockState state) {
 		changeToBlockState(world, pos, state);
 		world.playSound(null, pos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 0.3F, 0.6F);
-		//world.scheduleUpdate(pos, state.getBlock(), getTickRateFor(state, world.rand));
+		world.getPendingBlockTicks().scheduleTick(pos, state.getBlock(), getTickRateFor(state, world.rand));
 	}
 
 	/**
-	 * We need variable, metadata-based tick rates
+	 * We need variable, state-based tick rates
 	 */
-//	private static int getTickRateFor(BlockState state, Random rand) {
-//		if (state.getBlock() == TFBlocks.reappearing_block.get() && state.get(ACTIVE)) {
-//			return 2 + rand.nextInt(5);
-//		}
-//
-//		return 15;
-//	}
+	private static int getTickRateFor(BlockState state, Random rand) {
+		if (state.getBlock() == TFBlocks.reappearing_block.get() && state.get(ACTIVE)) {
+			return 2 + rand.nextInt(5);
+		}
+
+		return 15;
+	}
 
 	@Override
 	@Deprecated
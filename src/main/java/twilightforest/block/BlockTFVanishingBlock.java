@@ -132,10 +132,8 @@ public class BlockTFVanishingBlock extends Block {
 			world.playSound(null, pos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 0.3F, 0.5F);
 			//world.markBlockRangeForRenderUpdate(x, y, z, x, y, z);
 
-			// activate all adjacent inactive vanish blocks
-			for (Direction e : Direction.values()) {
-				checkAndActivateVanishBlock(world, pos.offset(e));
-			}
+			// activate all connected inactive vanish blocks
+			VanishingWaves.onVanished(world, pos);
 		}
 	}
 
@@ -193,16 +191,36 @@ public class BlockTFVanishingBlock extends Block {
 	/**
 	 * If the targeted block is a vanishing block, activate it
 	 */
-	public static void checkAndActivateVanishBlock(World world, BlockPos pos) {
+	public static boolean checkAndActivateVanishBlock(World world, BlockPos pos) {
+		return canActivate(world, pos, world.getBlockState(pos)) && activate(world, pos);
+	}
+
+	/**
+	 * Would {@link #checkAndActivateVanishBlock} activate a block in this state?
+	 */
+	static boolean canActivate(IBlockReader world, BlockPos pos, BlockState state) {
+		if (state == TFBlocks.vanishing_block.get().getDefaultState().with(ACTIVE, false) || state == TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, false)) {
+			return true;
+		}
+		return (state == TFBlocks.locked_vanishing_block.get().getDefaultState().with(BlockTFLockedVanishing.LOCKED, false) || state == TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, false)) && !areBlocksLocked(world, pos);
+	}
+
+	/**
+	 * Activates the block without checking locks, for blocks already known to be activatable
+	 */
+	static boolean activate(World world, BlockPos pos) {
 		BlockState state = world.getBlockState(pos);
 
-		if (state == TFBlocks.vanishing_block.get().getDefaultState().with(BlockTFVanishingBlock.ACTIVE, false) || state == TFBlocks.locked_vanishing_block.get().getDefaultState().with(BlockTFLockedVanishing.LOCKED, false) && !areBlocksLocked(world, pos)) {
-			changeToActiveVanishBlock(world, pos, TFBlocks.vanishing_block.get().getDefaultState().with(BlockTFVanishingBlock.ACTIVE, true));
-		} else if (state == TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, false) && !areBlocksLocked(world, pos)) {
-			changeToActiveVanishBlock(world, pos, TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, true));
+		if (state == TFBlocks.vanishing_block.get().getDefaultState().with(ACTIVE, false) || state == TFBlocks.locked_vanishing_block.get().getDefaultState().with(BlockTFLockedVanishing.LOCKED, false)) {
+			changeToActiveVanishBlock(world, pos, TFBlocks.vanishing_block.get().getDefaultState().with(ACTIVE, true));
+		} else if (state == TFBlocks.reappearing_block.get().getDefaultState().with(BlockTFReappearingBlock.ACTIVE, false)) {
+			BlockTFReappearingBlock.changeToActiveVanishBlock(world, pos, true);
 		} else if (state == TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, false)) {
 			changeToActiveVanishBlock(world, pos, TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, true));
+		} else {
+			return false;
 		}
+		return true;
 	}
 
 	public static void changeToActiveVanishBlock(World world, BlockPos pos, boolean variant) {
@@ -215,21 +233,21 @@ public class BlockTFVanishingBlock extends Block {
 	private static void changeToActiveVanishBlock(World world, BlockPos pos, BlockState state) {
 		changeToBlockState(world, pos, state);
 		world.playSound(null, pos, SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, 0.3F, 0.6F);
-		//world.scheduleUpdate(pos, state.getBlock(), getTickRateFor(state, world.rand));
+		world.getPendingBlockTicks().scheduleTick(pos, state.getBlock(), getTickRateFor(state, world.rand));
 	}
 
 	/**
-	 * We need variable, metadata-based tick rates
+	 * We need variable, state-based tick rates
 	 */
-//	private static int getTickRateFor(BlockState state, Random rand) {
-//		if (state.getBlock() == TFBlocks.tower_device && (state.getValue(VARIANT) == TowerDeviceVariant.VANISH_ACTIVE || state.getValue(VARIANT) == TowerDeviceVariant.REAPPEARING_ACTIVE)) {
-//			return 2 + rand.nextInt(5);
-//		} else if (state.getBlock() == TFBlocks.tower_translucent && state.getValue(BlockTFTowerTranslucent.VARIANT) == TowerTranslucentVariant.BUILT_ACTIVE) {
-//			return 10;
-//		}
-//
-//		return 15;
-//	}
+	private static int getTickRateFor(BlockState state, Random rand) {
+		if (state == TFBlocks.vanishing_block.get().getDefaultState().with(ACTIVE, true)) {
+			return 2 + rand.nextInt(5);
+		} else if (state == TFBlocks.builder_translucent.get().getDefaultState().with(BlockTFBuiltTranslucent.ACTIVE, true)) {
+			return 10;
+		}
+
+		return 15;
+	}
 
 	@Override
 	@Deprecated
@@ -0,0 +1,165 @@
+package twilightforest.block;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Spreads activation through a connected group of vanishing blocks.
+ * <p>
+ * When a vanishing or reappearing block goes that wasn't set off by a wave, the rest of its group is found with one
+ * flood fill and then activated a layer at a time, nearest first, from the world tick. Blocks set off by a wave don't
+ * look at their neighbours again when they go, so every block in the group is only looked at once.
+ */
+public final class VanishingWaves {
+
+	// ticks between layers, about as long as an active block takes to vanish
+	private static final int LAYER_DELAY = 4;
+	// how long after its last layer a wave waits for its blocks to vanish before forgetting them
+	private static final int LINGER_TICKS = 20;
+
+	private static final Map<World, WorldWaves> WAVES = new WeakHashMap<>();
+
+	private VanishingWaves() {}
+
+	/**
+	 * To be called when a vanishing block has just vanished, sets off the blocks connected to it
+	 */
+	public static void onVanished(World world, BlockPos pos) {
+		WorldWaves waves = WAVES.computeIfAbsent(world, w -> new WorldWaves());
+
+		if (waves.members.remove(pos.toLong())) {
+			// part of a wave, which already has the neighbours covered
+			return;
+		}
+
+		List<long[]> layers = flood(world, pos, waves.members);
+		if (!layers.isEmpty()) {
+			Wave wave = new Wave(layers, world.getGameTime());
+			// the nearest layer goes right away, same as when each block set off its own neighbours
+			wave.advance(world, waves.members);
+			waves.active.add(wave);
+		}
+	}
+
+	public static void tick(World world) {
+		WorldWaves waves = WAVES.get(world);
+		if (waves == null || waves.active.isEmpty()) {
+			return;
+		}
+
+		long time = world.getGameTime();
+		for (Iterator<Wave> it = waves.active.iterator(); it.hasNext(); ) {
+			Wave wave = it.next();
+			if (wave.isDone()) {
+				if (time >= wave.nextTime + LINGER_TICKS) {
+					// anything still in here didn't vanish, it was broken or unloaded
+					wave.forget(waves.members);
+					it.remove();
+				}
+			} else if (time >= wave.nextTime) {
+				wave.advance(world, waves.members);
+			}
+		}
+	}
+
+	/**
+	 * Finds everything connected to the origin that can be activated, grouped by distance from the origin.
+	 * Blocks that pass activation on are added to the wave's members.
+	 */
+	private static List<long[]> flood(World world, BlockPos origin, LongSet members) {
+		List<long[]> layers = new ArrayList<>();
+		LongSet visited = new LongOpenHashSet();
+		LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+
+		visited.add(origin.toLong());
+		queue.enqueue(origin.toLong());
+
+		while (!queue.isEmpty()) {
+			// everything in the queue is the same distance out, so take it all as one layer
+			LongList layer = new LongArrayList();
+			int layerSize = queue.size();
+
+			for (int i = 0; i < layerSize; i++) {
+				long from = queue.dequeueLong();
+
+				for (Direction facing : Direction.values()) {
+					pos.setPos(BlockPos.unpackX(from) + facing.getXOffset(), BlockPos.unpackY(from) + facing.getYOffset(), BlockPos.unpackZ(from) + facing.getZOffset());
+					long key = pos.toLong();
+
+					if (!visited.add(key) || members.contains(key) || !world.isBlockLoaded(pos)) {
+						continue;
+					}
+
+					BlockState state = world.getBlockState(pos);
+					if (BlockTFVanishingBlock.canActivate(world, pos, state)) {
+						layer.add(key);
+						// built blocks do their own spreading, the rest leave it to the wave
+						if (state.getBlock() != TFBlocks.builder_translucent.get()) {
+							members.add(key);
+							queue.enqueue(key);
+						}
+					}
+				}
+			}
+
+			if (!layer.isEmpty()) {
+				layers.add(layer.toLongArray());
+			}
+		}
+
+		return layers;
+	}
+
+	private static class WorldWaves {
+		final List<Wave> active = new ArrayList<>();
+		// blocks that a wave has activated or is about to
+		final LongSet members = new LongOpenHashSet();
+	}
+
+	private static class Wave {
+		final List<long[]> layers;
+		int nextLayer;
+		long nextTime;
+
+		Wave(List<long[]> layers, long startTime) {
+			this.layers = layers;
+			this.nextTime = startTime;
+		}
+
+		boolean isDone() {
+			return nextLayer >= layers.size();
+		}
+
+		void advance(World world, LongSet members) {
+			for (long key : layers.get(nextLayer++)) {
+				if (!BlockTFVanishingBlock.activate(world, BlockPos.fromLong(key))) {
+					// changed since the flood, so it won't be vanishing
+					members.remove(key);
+				}
+			}
+			nextTime += LAYER_DELAY;
+		}
+
+		void forget(LongSet members) {
+			for (long[] layer : layers) {
+				for (long key : layer) {
+					members.remove(key);
+				}
+			}
+		}
+	}
+}
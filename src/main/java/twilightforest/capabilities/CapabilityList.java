@@ -2,16 +2,21 @@ package twilightforest.capabilities;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.Direction;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityInject;
 import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import twilightforest.capabilities.progression.IProgressionCapability;
+import twilightforest.capabilities.progression.ProgressionCapabilityHandler;
+import twilightforest.capabilities.progression.ProgressionCapabilityStorage;
 import twilightforest.capabilities.shield.IShieldCapability;
 import twilightforest.capabilities.shield.ShieldCapabilityHandler;
 import twilightforest.capabilities.shield.ShieldCapabilityStorage;
@@ -23,12 +28,17 @@ public class CapabilityList {
 	@CapabilityInject(IShieldCapability.class)
 	public static final Capability<IShieldCapability> SHIELDS;
 
+	@CapabilityInject(IProgressionCapability.class)
+	public static final Capability<IProgressionCapability> PROGRESSION;
+
 	static {
 		SHIELDS = null;
+		PROGRESSION = null;
 	}
 
 	public static void registerCapabilities() {
 		CapabilityManager.INSTANCE.register(IShieldCapability.class, new ShieldCapabilityStorage(), ShieldCapabilityHandler::new);
+		CapabilityManager.INSTANCE.register(IProgressionCapability.class, new ProgressionCapabilityStorage(), ProgressionCapabilityHandler::new);
 		MinecraftForge.EVENT_BUS.register(CapabilityList.class);
 	}
 
@@ -61,5 +71,23 @@ public class CapabilityList {
 
 			});
 		}
+
+		if (e.getObject() instanceof PlayerEntity) {
+			// not saved, the gates are worked out from the player's advancements when they log in
+			e.addCapability(IProgressionCapability.ID, new ICapabilityProvider() {
+
+				IProgressionCapability inst = PROGRESSION.getDefaultInstance();
+
+				{
+					inst.setPlayer((PlayerEntity) e.getObject());
+				}
+
+				@Nonnull
+				@Override
+				public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> capability, Direction facing) {
+					return PROGRESSION.orEmpty(capability, LazyOptional.of(() -> inst));
+				}
+			});
+		}
 	}
 }
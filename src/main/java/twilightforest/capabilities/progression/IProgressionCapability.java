@@ -0,0 +1,24 @@
+package twilightforest.capabilities.progression;
+
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.ResourceLocation;
+import twilightforest.TwilightForestMod;
+
+/**
+ * Which of the progression gates in {@link ProgressionGates} a player has unlocked, as one bit per gate
+ */
+public interface IProgressionCapability {
+
+	ResourceLocation ID = TwilightForestMod.prefix("cap_progression");
+
+	void setPlayer(PlayerEntity player);
+
+	long getGates();
+
+	void setGates(long gates);
+
+	/**
+	 * @return whether every gate in the mask is unlocked
+	 */
+	boolean hasGates(long mask);
+}
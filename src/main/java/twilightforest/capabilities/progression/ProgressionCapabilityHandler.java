@@ -0,0 +1,46 @@
+package twilightforest.capabilities.progression;
+
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.fml.network.PacketDistributor;
+import twilightforest.network.PacketUpdateProgression;
+import twilightforest.network.TFPacketHandler;
+
+public class ProgressionCapabilityHandler implements IProgressionCapability {
+
+	private PlayerEntity host;
+	private long gates;
+
+	@Override
+	public void setPlayer(PlayerEntity player) {
+		host = player;
+	}
+
+	@Override
+	public long getGates() {
+		return gates;
+	}
+
+	@Override
+	public void setGates(long gates) {
+		if (this.gates != gates) {
+			this.gates = gates;
+			sendUpdatePacket();
+		}
+	}
+
+	@Override
+	public boolean hasGates(long mask) {
+		return (gates & mask) == mask;
+	}
+
+	private void sendUpdatePacket() {
+		if (host instanceof ServerPlayerEntity) {
+			ServerPlayerEntity player = (ServerPlayerEntity) host;
+			// connection is null until the player has finished logging in, which sends the gates itself
+			if (player.connection != null) {
+				TFPacketHandler.CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), new PacketUpdateProgression(this));
+			}
+		}
+	}
+}
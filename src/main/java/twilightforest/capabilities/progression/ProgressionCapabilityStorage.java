@@ -0,0 +1,23 @@
+package twilightforest.capabilities.progression;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.util.Direction;
+import net.minecraftforge.common.capabilities.Capability;
+
+public class ProgressionCapabilityStorage implements Capability.IStorage<IProgressionCapability> {
+
+	@Override
+	public CompoundNBT writeNBT(Capability<IProgressionCapability> capability, IProgressionCapability instance, Direction side) {
+		CompoundNBT tag = new CompoundNBT();
+		tag.putLong("gates", instance.getGates());
+		return tag;
+	}
+
+	@Override
+	public void readNBT(Capability<IProgressionCapability> capability, IProgressionCapability instance, Direction side, INBT nbt) {
+		if (nbt instanceof CompoundNBT) {
+			instance.setGates(((CompoundNBT) nbt).getLong("gates"));
+		}
+	}
+}
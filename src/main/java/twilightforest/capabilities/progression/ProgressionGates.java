@@ -0,0 +1,111 @@
+package twilightforest.capabilities.progression;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.registries.ForgeRegistries;
+import twilightforest.TFFeature;
+import twilightforest.TwilightForestMod;
+import twilightforest.biomes.TFBiomeBase;
+import twilightforest.capabilities.CapabilityList;
+import twilightforest.util.PlayerHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The advancements that features and biomes require, each given a bit so a player's unlocked ones fit in a long.
+ * <p>
+ * Bits are handed out in order of advancement id, from everything the features and biomes require, so the server
+ * and client number them the same without having to sync the numbering.
+ */
+public final class ProgressionGates {
+
+	private static volatile List<ResourceLocation> gates;
+	private static volatile Object2IntMap<ResourceLocation> bits;
+
+	private ProgressionGates() {}
+
+	/**
+	 * @return the bits for the advancements, which must all be required by a feature or biome
+	 */
+	public static long getMask(ResourceLocation... advancements) {
+		Object2IntMap<ResourceLocation> bits = getBits();
+		long mask = 0L;
+		for (ResourceLocation advancement : advancements) {
+			int bit = bits.getInt(advancement);
+			if (bit >= 0) {
+				mask |= 1L << bit;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Works out which gates the player has unlocked from their advancements
+	 */
+	public static long getUnlocked(ServerPlayerEntity player) {
+		getBits();
+		long unlocked = 0L;
+		for (int i = 0; i < gates.size(); i++) {
+			if (TwilightForestMod.proxy.doesPlayerHaveAdvancement(player, gates.get(i))) {
+				unlocked |= 1L << i;
+			}
+		}
+		return unlocked;
+	}
+
+	/**
+	 * Does the player have every gate in the mask? Looks the advancements up the slow way for players without the capability.
+	 */
+	public static boolean hasGates(PlayerEntity player, long mask, ResourceLocation... advancements) {
+		if (mask == 0L) {
+			return true;
+		}
+		return player.getCapability(CapabilityList.PROGRESSION)
+				.map(cap -> cap.hasGates(mask))
+				.orElseGet(() -> PlayerHelper.doesPlayerHaveRequiredAdvancements(player, advancements));
+	}
+
+	private static Object2IntMap<ResourceLocation> getBits() {
+		if (bits == null) {
+			synchronized (ProgressionGates.class) {
+				if (bits == null) {
+					init();
+				}
+			}
+		}
+		return bits;
+	}
+
+	private static void init() {
+		Set<ResourceLocation> required = new TreeSet<>();
+		for (TFFeature feature : TFFeature.values()) {
+			Collections.addAll(required, feature.getRequiredAdvancements());
+		}
+		for (Biome biome : ForgeRegistries.BIOMES) {
+			if (biome instanceof TFBiomeBase) {
+				Collections.addAll(required, ((TFBiomeBase) biome).getRequiredAdvancementIds());
+			}
+		}
+
+		if (required.size() > Long.SIZE) {
+			throw new IllegalStateException("Too many progression gates to fit in a long: " + required.size());
+		}
+
+		Object2IntMap<ResourceLocation> newBits = new Object2IntOpenHashMap<>();
+		newBits.defaultReturnValue(-1);
+		for (ResourceLocation advancement : required) {
+			newBits.put(advancement, newBits.size());
+		}
+
+		gates = Collections.unmodifiableList(new ArrayList<>(required));
+		bits = newBits;
+	}
+}
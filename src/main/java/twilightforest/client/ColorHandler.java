@@ -48,21 +48,7 @@ public final class ColorHandler {
 				return FoliageColors.getDefault();
 			}
 
-			int red = 0;
-			int grn = 0;
-			int blu = 0;
-
-			for (int dz = -1; dz <= 1; ++dz) {
-				for (int dx = -1; dx <= 1; ++dx) {
-					//int i2 = worldIn.getBiome(pos.add(dx, 0, dz)).getFoliageColor(pos.add(dx, 0, dz));
-					int i2 = BiomeColors.getFoliageColor(worldIn, pos.add(dx, 0, dz));
-					red += (i2 & 16711680) >> 16;
-					grn += (i2 & 65280) >> 8;
-					blu += i2 & 255;
-				}
-			}
-
-			return (red / 9 & 255) << 16 | (grn / 9 & 255) << 8 | blu / 9 & 255;
+			return FoliageColorCache.getBlendedColor(worldIn, pos);
 		}, TFBlocks.dark_leaves.get(), TFBlocks.giant_leaves.get());
 		blockColors.register((state, worldIn, pos, tintIndex) -> tintIndex > 15 ? 0xFFFFFF : blockColors.getColor(Blocks.GRASS.getDefaultState(), worldIn, pos, tintIndex), TFBlocks.smoker.get(), TFBlocks.fire_jet.get());
 		blockColors.register((state, worldIn, pos, tintIndex) -> worldIn != null && pos != null ? 2129968 : 7455580, TFBlocks.huge_lilypad.get());
@@ -178,21 +164,7 @@ public final class ColorHandler {
 			if (world == null || pos == null) {
 				return 0x48B518;
 			} else {
-				int red = 0;
-				int green = 0;
-				int blue = 0;
-
-				for (int dz = -1; dz <= 1; ++dz) {
-					for (int dx = -1; dx <= 1; ++dx) {
-						//int color = world.getBiome(pos.add(dx, 0, dz)).getFoliageColor(pos);
-						int color = BiomeColors.getFoliageColor(world, pos);
-						red += (color & 16711680) >> 16;
-						green += (color & 65280) >> 8;
-						blue += color & 255;
-					}
-				}
-
-				return (red / 9 & 0xFF) << 16 | (green / 9 & 0xFF) << 8 | blue / 9 & 0xFF;
+				return FoliageColorCache.getBlendedColor(world, pos);
 			}
 		}, TFBlocks.oak_leaves.get());
 		blockColors.register((state, world, pos, tintIndex) -> {
@@ -201,21 +173,7 @@ public final class ColorHandler {
 			if (world == null || pos == null) {
 				return 0x609860;
 			} else {
-				int red = 0;
-				int green = 0;
-				int blue = 0;
-
-				for (int dz = -1; dz <= 1; ++dz) {
-					for (int dx = -1; dx <= 1; ++dx) {
-						//int color = world.getBiome(pos.add(dx, 0, dz)).getFoliageColor(pos);
-						int color = BiomeColors.getFoliageColor(world, pos);
-						red += (color & 16711680) >> 16;
-						green += (color & 65280) >> 8;
-						blue += color & 255;
-					}
-				}
-
-				int normalColor = (red / 9 & 0xFF) << 16 | (green / 9 & 0xFF) << 8 | blue / 9 & 0xFF;
+				int normalColor = FoliageColorCache.getBlendedColor(world, pos);
 				// canopy colorizer
 				return ((normalColor & 0xFEFEFE) + 0x469A66) / 2;
 				//return ((normalColor & 0xFEFEFE) + 0x009822) / 2;
@@ -227,21 +185,7 @@ public final class ColorHandler {
 			if (world == null || pos == null) {
 				return 0x80A755;
 			} else {
-				int red = 0;
-				int green = 0;
-				int blue = 0;
-
-				for (int dz = -1; dz <= 1; ++dz) {
-					for (int dx = -1; dx <= 1; ++dx) {
-						//int color = world.getBiome(pos.add(dx, 0, dz)).getFoliageColor(pos);
-						int color = BiomeColors.getFoliageColor(world, pos);
-						red += (color & 16711680) >> 16;
-						green += (color & 65280) >> 8;
-						blue += color & 255;
-					}
-				}
-
-				int normalColor = (red / 9 & 0xFF) << 16 | (green / 9 & 0xFF) << 8 | blue / 9 & 0xFF;
+				int normalColor = FoliageColorCache.getBlendedColor(world, pos);
 				// mangrove colors
 				return ((normalColor & 0xFEFEFE) + 0xC0E694) / 2;
 			}
@@ -252,19 +196,7 @@ public final class ColorHandler {
 			if (world == null || pos == null) {
 				return 0x48B518;
 			} else {
-				int red = 0;
-				int green = 0;
-				int blue = 0;
-
-				for (int dz = -1; dz <= 1; ++dz) {
-					for (int dx = -1; dx <= 1; ++dx) {
-						//int color = world.getBiome(pos.add(dx, 0, dz)).getFoliageColor(pos);
-						int color = BiomeColors.getFoliageColor(world, pos);
-						red += (color & 16711680) >> 16;
-						green += (color & 65280) >> 8;
-						blue += color & 255;
-					}
-				}
+				int red, green, blue;
 
 				// RAINBOW!
 				red = pos.getX() * 32 + pos.getY() * 16;
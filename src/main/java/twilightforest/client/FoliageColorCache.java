@@ -0,0 +1,121 @@
+package twilightforest.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.ILightReader;
+import net.minecraft.world.biome.BiomeColors;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Foliage colours blended over each block's 3x3 neighbourhood, worked out a whole chunk column at a time.
+ * <p>
+ * Leaves that blend their tint used to look up nine biome colours for every tint request, which added up fast
+ * rebuilding chunks full of leaves. The blended colours for a column are now filled in from one pass of 18x18
+ * lookups the first time any block in it asks, and kept until the column's biomes change or it unloads.
+ * Chunks are rebuilt on several threads, so the cache is shared between them.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class FoliageColorCache {
+
+	// plenty for a large render distance, oldest columns go first past this
+	private static final int MAX_COLUMNS = 4096;
+
+	private static final Long2ObjectLinkedOpenHashMap<int[]> COLUMNS = new Long2ObjectLinkedOpenHashMap<>();
+
+	private FoliageColorCache() {}
+
+	/**
+	 * @return the foliage colour at the position, averaged with the eight around it
+	 */
+	public static int getBlendedColor(ILightReader world, BlockPos pos) {
+		long key = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+
+		int[] colors;
+		synchronized (COLUMNS) {
+			colors = COLUMNS.getAndMoveToLast(key);
+		}
+
+		if (colors == null) {
+			// filled outside the lock, if two threads both fill a column they come up with the same colours anyway
+			colors = fill(world, pos);
+			synchronized (COLUMNS) {
+				COLUMNS.putAndMoveToLast(key, colors);
+				if (COLUMNS.size() > MAX_COLUMNS) {
+					COLUMNS.removeFirst();
+				}
+			}
+		}
+
+		return colors[(pos.getZ() & 15) << 4 | (pos.getX() & 15)];
+	}
+
+	/**
+	 * To be called when the biome at a position changes, forgets every column that blends with it
+	 */
+	public static void invalidate(BlockPos pos) {
+		synchronized (COLUMNS) {
+			for (int cx = (pos.getX() - 1) >> 4; cx <= (pos.getX() + 1) >> 4; cx++) {
+				for (int cz = (pos.getZ() - 1) >> 4; cz <= (pos.getZ() + 1) >> 4; cz++) {
+					COLUMNS.remove(ChunkPos.asLong(cx, cz));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forgets the chunk column and the ones around it, whose edges blend with it
+	 */
+	public static void invalidateChunk(ChunkPos chunk) {
+		synchronized (COLUMNS) {
+			for (int cx = chunk.x - 1; cx <= chunk.x + 1; cx++) {
+				for (int cz = chunk.z - 1; cz <= chunk.z + 1; cz++) {
+					COLUMNS.remove(ChunkPos.asLong(cx, cz));
+				}
+			}
+		}
+	}
+
+	public static void clear() {
+		synchronized (COLUMNS) {
+			COLUMNS.clear();
+		}
+	}
+
+	private static int[] fill(ILightReader world, BlockPos pos) {
+		int minX = (pos.getX() & ~15) - 1;
+		int minZ = (pos.getZ() & ~15) - 1;
+
+		// the column plus a block all round, for blending the edges
+		int[] raw = new int[18 * 18];
+		BlockPos.Mutable lookup = new BlockPos.Mutable();
+		for (int z = 0; z < 18; z++) {
+			for (int x = 0; x < 18; x++) {
+				raw[z * 18 + x] = BiomeColors.getFoliageColor(world, lookup.setPos(minX + x, pos.getY(), minZ + z));
+			}
+		}
+
+		int[] colors = new int[16 * 16];
+		for (int z = 0; z < 16; z++) {
+			for (int x = 0; x < 16; x++) {
+				int red = 0;
+				int green = 0;
+				int blue = 0;
+
+				for (int dz = 0; dz <= 2; ++dz) {
+					for (int dx = 0; dx <= 2; ++dx) {
+						int color = raw[(z + dz) * 18 + x + dx];
+						red += (color & 16711680) >> 16;
+						green += (color & 65280) >> 8;
+						blue += color & 255;
+					}
+				}
+
+				colors[z << 4 | x] = (red / 9 & 0xFF) << 16 | (green / 9 & 0xFF) << 8 | blue / 9 & 0xFF;
+			}
+		}
+
+		return colors;
+	}
+}
@@ -7,11 +7,14 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderLivingEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import twilightforest.TFConfig;
@@ -20,6 +23,7 @@ import twilightforest.TwilightForestMod;
 import twilightforest.block.TFBlocks;
 import twilightforest.client.renderer.TFWeatherRenderer;
 import twilightforest.client.texture.GradientNode;
+import twilightforest.inventory.UncraftingRecipeIndex;
 import twilightforest.world.TFWorld;
 
 @OnlyIn(Dist.CLIENT)
@@ -180,6 +184,38 @@ public class TFClientEvents {
 		}
 	}
 
+	/**
+	 * The server sent us new recipes, so forget what the uncrafting table knows about the old ones
+	 */
+	@SubscribeEvent
+	public static void recipesUpdated(RecipesUpdatedEvent event) {
+		UncraftingRecipeIndex.invalidate(event.getRecipeManager());
+	}
+
+	/**
+	 * Blended leaf colours at a chunk's edges depend on its neighbours, so forget them as chunks come and go
+	 */
+	@SubscribeEvent
+	public static void chunkLoad(ChunkEvent.Load event) {
+		if (event.getWorld() != null && event.getWorld().isRemote()) {
+			FoliageColorCache.invalidateChunk(event.getChunk().getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public static void chunkUnload(ChunkEvent.Unload event) {
+		if (event.getWorld() != null && event.getWorld().isRemote()) {
+			FoliageColorCache.invalidateChunk(event.getChunk().getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public static void worldUnload(WorldEvent.Unload event) {
+		if (event.getWorld().isRemote()) {
+			FoliageColorCache.clear();
+		}
+	}
+
 	@SubscribeEvent
 	public static void clientTick(TickEvent.ClientTickEvent event) {
 		if (event.phase != TickEvent.Phase.END) return;
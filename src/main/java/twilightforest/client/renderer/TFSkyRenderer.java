@@ -1,12 +1,11 @@
 package twilightforest.client.renderer;
 
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.GameRenderer;
-import net.minecraft.client.renderer.GLAllocation;
 import com.mojang.blaze3d.platform.GlStateManager;
-import net.minecraft.client.renderer.OpenGlHelper;
 import net.minecraft.client.renderer.WorldRenderer;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.client.renderer.Tessellator;
@@ -22,13 +21,21 @@ import java.util.Random;
 @OnlyIn(Dist.CLIENT)
 public class TFSkyRenderer extends IRenderHandler {
 
-	private boolean vboEnabled;
-	private int starGLCallList;
-	private VertexBuffer starVBO;
+	private static final int STAR_COUNT = 3000;
 
-	public TFSkyRenderer() {
-		vboEnabled = OpenGlHelper.useVbo();
-		generateStars();
+	// star quads, worked out once as they never change
+	private static float[] starVertices;
+	// shared between renderers, so visiting the dimension again doesn't build another one
+	private static VertexBuffer starVBO;
+
+	/**
+	 * Drops the star buffer, to be built again the next time the sky renders
+	 */
+	public static void invalidateStars() {
+		if (starVBO != null) {
+			starVBO.deleteGlBuffers();
+			starVBO = null;
+		}
 	}
 
 	// [VanillaCopy] RenderGlobal.renderSky's overworld branch, without sun/moon/sunrise/sunset, and using our own stars at full brightness
@@ -37,10 +44,7 @@ public class TFSkyRenderer extends IRenderHandler {
 	@OnlyIn(Dist.CLIENT)
 	public void render(float partialTicks, ClientWorld world, Minecraft mc) {
 
-		// [VanillaCopy] Excerpt from RenderGlobal.loadRenderers as we don't get a callback
-		boolean flag = this.vboEnabled;
-		this.vboEnabled = OpenGlHelper.useVbo();
-		if (flag != this.vboEnabled) {
+		if (starVBO == null) {
 			generateStars();
 		}
 
@@ -69,16 +73,7 @@ public class TFSkyRenderer extends IRenderHandler {
 		GlStateManager.enableFog();
 		GlStateManager.color(f, f1, f2);
 
-		if (this.vboEnabled) {
-			rg.skyVBO.bindBuffer();
-			GlStateManager.glEnableClientState(32884);
-			GlStateManager.glVertexPointer(3, 5126, 12, 0);
-			rg.skyVBO.drawArrays(7);
-			rg.skyVBO.unbindBuffer();
-			GlStateManager.glDisableClientState(32884);
-		} else {
-			GlStateManager.callList(rg.glSkyList);
-		}
+		drawPositionVBO(rg.skyVBO);
 
 		GlStateManager.disableFog();
 		GlStateManager.disableAlpha();
@@ -108,16 +103,7 @@ public class TFSkyRenderer extends IRenderHandler {
 		if (f15 > 0.0F) {
 			GlStateManager.color(f15, f15, f15, f15);
 
-			if (this.vboEnabled) {
-				this.starVBO.bindBuffer();
-				GlStateManager.glEnableClientState(32884);
-				GlStateManager.glVertexPointer(3, 5126, 12, 0);
-				this.starVBO.drawArrays(7);
-				this.starVBO.unbindBuffer();
-				GlStateManager.glDisableClientState(32884);
-			} else {
-				GlStateManager.callList(this.starGLCallList);
-			}
+			drawPositionVBO(starVBO);
 		}
 
 		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
@@ -133,16 +119,7 @@ public class TFSkyRenderer extends IRenderHandler {
 			GlStateManager.pushMatrix();
 			GlStateManager.translatef(0.0F, 12.0F, 0.0F);
 
-			if (this.vboEnabled) {
-				rg.sky2VBO.bindBuffer();
-				GlStateManager.glEnableClientState(32884);
-				GlStateManager.glVertexPointer(3, 5126, 12, 0);
-				rg.sky2VBO.drawArrays(7);
-				rg.sky2VBO.unbindBuffer();
-				GlStateManager.glDisableClientState(32884);
-			} else {
-				GlStateManager.callList(rg.glSkyList2);
-			}
+			drawPositionVBO(rg.sky2VBO);
 
 			GlStateManager.popMatrix();
 			float f18 = 1.0F;
@@ -180,53 +157,45 @@ public class TFSkyRenderer extends IRenderHandler {
 
 		GlStateManager.pushMatrix();
 		GlStateManager.translatef(0.0F, -((float) (d0 - 16.0D)), 0.0F);
-		GlStateManager.callList(rg.glSkyList2);
+		drawPositionVBO(rg.sky2VBO);
 		GlStateManager.popMatrix();
 		GlStateManager.enableTexture2D();
 		GlStateManager.depthMask(true);
 	}
 
-	// [VanillaCopy] RenderGlobal.generateStars
-	private void generateStars() {
-		Tessellator tessellator = Tessellator.getInstance();
-		BufferBuilder bufferbuilder = tessellator.getBuffer();
+	private static void drawPositionVBO(VertexBuffer vbo) {
+		vbo.bindBuffer();
+		GlStateManager.glEnableClientState(32884);
+		GlStateManager.glVertexPointer(3, 5126, 12, 0);
+		vbo.drawArrays(7);
+		vbo.unbindBuffer();
+		GlStateManager.glDisableClientState(32884);
+	}
 
-		if (this.starVBO != null) {
-			this.starVBO.deleteGlBuffers();
+	private static void generateStars() {
+		if (starVertices == null) {
+			starVertices = makeStarVertices();
 		}
 
-		if (this.starGLCallList >= 0) {
-			GLAllocation.deleteDisplayLists(this.starGLCallList);
-			this.starGLCallList = -1;
+		BufferBuilder bufferbuilder = Tessellator.getInstance().getBuffer();
+		bufferbuilder.begin(7, DefaultVertexFormats.POSITION);
+		for (int i = 0; i < starVertices.length; i += 3) {
+			bufferbuilder.pos(starVertices[i], starVertices[i + 1], starVertices[i + 2]).endVertex();
 		}
+		bufferbuilder.finishDrawing();
+		bufferbuilder.reset();
 
-		if (this.vboEnabled) {
-			// TF - inlined RenderGlobal field that's only used once here
-			this.starVBO = new VertexBuffer(DefaultVertexFormats.POSITION);
-			this.renderStars(bufferbuilder);
-			bufferbuilder.finishDrawing();
-			bufferbuilder.reset();
-			this.starVBO.bufferData(bufferbuilder.getByteBuffer());
-
-		} else {
-			this.starGLCallList = GLAllocation.generateDisplayLists(1);
-			GlStateManager.pushMatrix();
-			GlStateManager.glNewList(this.starGLCallList, 4864);
-			this.renderStars(bufferbuilder);
-			tessellator.draw();
-			GlStateManager.glEndList();
-			GlStateManager.popMatrix();
-		}
+		starVBO = new VertexBuffer(DefaultVertexFormats.POSITION);
+		starVBO.bufferData(bufferbuilder.getByteBuffer());
 	}
 
-	// [VanillaCopy] of RenderGlobal.renderStars but with double the number of them
-	@SuppressWarnings("unused")
-	private void renderStars(BufferBuilder bufferBuilder) {
+	// [VanillaCopy] of RenderGlobal.renderStars but with double the number of them, into an array instead of a buffer
+	private static float[] makeStarVertices() {
 		Random random = new Random(10842L);
-		bufferBuilder.begin(7, DefaultVertexFormats.POSITION);
+		FloatArrayList vertices = new FloatArrayList(STAR_COUNT * 4 * 3);
 
 		// TF - 1500 -> 3000
-		for (int i = 0; i < 3000; ++i) {
+		for (int i = 0; i < STAR_COUNT; ++i) {
 			double d0 = (double) (random.nextFloat() * 2.0F - 1.0F);
 			double d1 = (double) (random.nextFloat() * 2.0F - 1.0F);
 			double d2 = (double) (random.nextFloat() * 2.0F - 1.0F);
@@ -252,19 +221,21 @@ public class TFSkyRenderer extends IRenderHandler {
 				double d16 = Math.cos(d14);
 
 				for (int j = 0; j < 4; ++j) {
-					double d17 = 0.0D;
 					double d18 = (double) ((j & 2) - 1) * d3;
 					double d19 = (double) ((j + 1 & 2) - 1) * d3;
-					double d20 = 0.0D;
 					double d21 = d18 * d16 - d19 * d15;
 					double d22 = d19 * d16 + d18 * d15;
 					double d23 = d21 * d12 + 0.0D * d13;
 					double d24 = 0.0D * d12 - d21 * d13;
 					double d25 = d24 * d9 - d22 * d10;
 					double d26 = d22 * d9 + d24 * d10;
-					bufferBuilder.pos(d5 + d25, d6 + d23, d7 + d26).endVertex();
+					vertices.add((float) (d5 + d25));
+					vertices.add((float) (d6 + d23));
+					vertices.add((float) (d7 + d26));
 				}
 			}
 		}
+
+		return vertices.toFloatArray();
 	}
 }
@@ -15,6 +15,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.LightType;
 import net.minecraft.world.World;
 import twilightforest.TwilightForestMod;
+import twilightforest.tileentity.GhastTrapRegistry;
 
 public class EntityTFMiniGhast extends EntityTFTowerGhast {
 
@@ -86,6 +87,30 @@ public class EntityTFMiniGhast extends EntityTFTowerGhast {
 		}
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).updateGhast(this);
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).removeGhast(this);
+		}
+	}
+
+	@Override
+	public void tick() {
+		super.tick();
+		if (!world.isRemote && !this.removed) {
+			GhastTrapRegistry.get(world).updateGhast(this);
+		}
+	}
+
 	public void makeBossMinion() {
 		this.wanderFactor = 0.005F;
 		this.isMinion = true;
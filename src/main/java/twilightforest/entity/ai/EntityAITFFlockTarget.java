@@ -4,7 +4,6 @@ import net.minecraft.entity.CreatureEntity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.TargetGoal;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class EntityAITFFlockTarget extends TargetGoal {
@@ -20,14 +19,7 @@ public class EntityAITFFlockTarget extends TargetGoal {
 
 	@Override
 	public boolean shouldExecute() {
-		List<LivingEntity> flockList = this.flockCreature.world.getEntitiesWithinAABB(this.flockCreature.getClass(), this.flockCreature.getBoundingBox().grow(16.0D, 4.0D, 16.0D));
-		List<LivingEntity> targetList = new ArrayList<LivingEntity>();
-
-		for (LivingEntity flocker : flockList) {
-			if (flocker.getRevengeTarget() != null) {
-				targetList.add(flocker.getRevengeTarget());
-			}
-		}
+		List<LivingEntity> targetList = FlockTracker.getRevengeTargets(this.flockCreature);
 
 		if (targetList.isEmpty()) {
 			return false;
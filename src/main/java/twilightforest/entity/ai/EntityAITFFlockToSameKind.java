@@ -4,8 +4,6 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.util.math.Vec3d;
 
-import java.util.List;
-
 public class EntityAITFFlockToSameKind extends Goal {
 	private static final double MAX_DIST = 256.0D;
 	private static final double MIN_DIST = 25.0D;
@@ -31,29 +29,15 @@ public class EntityAITFFlockToSameKind extends Goal {
 			return false;
 		}
 
-		List<LivingEntity> flockList = this.flockCreature.world.getEntitiesWithinAABB(this.flockCreature.getClass(), this.flockCreature.getBoundingBox().grow(16.0D, 4.0D, 16.0D));
-
-		int flocknum = 0;
-		double flockX = 0;
-		double flockY = 0;
-		double flockZ = 0;
-
-		for (LivingEntity flocker : flockList) {
-			flocknum++;
-			flockX += flocker.getX();
-			flockY += flocker.getY();
-			flockZ += flocker.getZ();
+		Vec3d centroid = FlockTracker.getCentroid(this.flockCreature);
+		if (centroid == null) {
+			return false;
 		}
 
-		flockX /= flocknum;
-		flockY /= flocknum;
-		flockZ /= flocknum;
-
-
-		if (flockCreature.getDistanceSq(flockX, flockY, flockZ) < MIN_DIST) {
+		if (flockCreature.getDistanceSq(centroid) < MIN_DIST) {
 			return false;
 		} else {
-			this.flockPosition = new Vec3d(flockX, flockY, flockZ);
+			this.flockPosition = centroid;
 			return true;
 		}
 	}
@@ -1,14 +1,11 @@
 package twilightforest.entity.ai;
 
 import net.minecraft.entity.CreatureEntity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.RandomPositionGenerator;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.util.math.Vec3d;
 import twilightforest.entity.EntityTFKobold;
 
-import java.util.List;
-
 public class EntityAITFPanicOnFlockDeath extends Goal {
 	private CreatureEntity flockCreature;
 	private float speed;
@@ -30,12 +27,8 @@ public class EntityAITFPanicOnFlockDeath extends Goal {
 		boolean yikes = fleeTimer > 0;
 
 		// check if any of us is dead within 4 squares
-		List<CreatureEntity> flockList = this.flockCreature.world.getEntitiesWithinAABB(this.flockCreature.getClass(), this.flockCreature.getBoundingBox().grow(4.0D, 2.0D, 4.0D));
-		for (LivingEntity flocker : flockList) {
-			if (flocker.deathTime > 0) {
-				yikes = true;
-				break;
-			}
+		if (FlockTracker.isAnyDying(this.flockCreature, 4.0D, 2.0D)) {
+			yikes = true;
 		}
 
 		if (!yikes) {
@@ -0,0 +1,174 @@
+package twilightforest.entity.ai;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of flocking creatures, so their goals don't each have to look up the rest of the flock.
+ * <p>
+ * Creatures join their kind's flock when their goals ask about it. Once a tick, each flock buckets its members by
+ * chunk section. A goal then only looks through the sections around its box, and checks the members there against
+ * the box, so it sees the same creatures a world query would.
+ */
+public final class FlockTracker {
+
+	// creatures that stop asking for this long have most likely unloaded, some goals only ask now and then
+	private static final int FORGET_TICKS = 200;
+
+	// members are bucketed by where they stand, so look a little further out for ones poking into a box
+	private static final double MARGIN = 2.0D;
+
+	private static final Map<World, Map<Class<?>, Flock>> FLOCKS = new WeakHashMap<>();
+
+	private FlockTracker() {}
+
+	/**
+	 * @return the average position of the creature's kind around it, including itself, or null if it hasn't been counted yet
+	 */
+	@Nullable
+	public static Vec3d getCentroid(LivingEntity creature) {
+		List<LivingEntity> flock = getFlockWithin(creature, creature.getBoundingBox().grow(16.0D, 4.0D, 16.0D));
+		if (flock.isEmpty()) {
+			return null;
+		}
+
+		double x = 0, y = 0, z = 0;
+		for (LivingEntity flocker : flock) {
+			x += flocker.getX();
+			y += flocker.getY();
+			z += flocker.getZ();
+		}
+		return new Vec3d(x / flock.size(), y / flock.size(), z / flock.size());
+	}
+
+	/**
+	 * @return what the creature's kind around it are out for revenge against
+	 */
+	public static List<LivingEntity> getRevengeTargets(LivingEntity creature) {
+		List<LivingEntity> targets = new ArrayList<>();
+		for (LivingEntity flocker : getFlockWithin(creature, creature.getBoundingBox().grow(16.0D, 4.0D, 16.0D))) {
+			if (flocker.getRevengeTarget() != null) {
+				targets.add(flocker.getRevengeTarget());
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Has one of the creature's kind died within the box around it?
+	 */
+	public static boolean isAnyDying(LivingEntity creature, double xz, double y) {
+		for (LivingEntity flocker : getFlockWithin(creature, creature.getBoundingBox().grow(xz, y, xz))) {
+			if (flocker.deathTime > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static void tick(World world) {
+		Map<Class<?>, Flock> flocks = FLOCKS.get(world);
+		if (flocks == null) {
+			return;
+		}
+
+		long time = world.getGameTime();
+		for (Iterator<Flock> it = flocks.values().iterator(); it.hasNext(); ) {
+			Flock flock = it.next();
+			flock.update(time);
+			if (flock.members.isEmpty()) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Drops the world's flocks, their members and revenge targets would otherwise keep the world from being collected
+	 */
+	public static void forgetWorld(World world) {
+		FLOCKS.remove(world);
+	}
+
+	/**
+	 * Same as querying the world for the creature's class within the box, counting the creature into its flock
+	 */
+	private static List<LivingEntity> getFlockWithin(LivingEntity creature, AxisAlignedBB box) {
+		Map<Class<?>, Flock> flocks = FLOCKS.computeIfAbsent(creature.world, w -> new HashMap<>());
+		flocks.computeIfAbsent(creature.getClass(), c -> new Flock()).members.put(creature, creature.world.getGameTime());
+
+		List<LivingEntity> found = new ArrayList<>();
+		for (Map.Entry<Class<?>, Flock> entry : flocks.entrySet()) {
+			// a world query by class takes in subclasses too
+			if (creature.getClass().isAssignableFrom(entry.getKey())) {
+				entry.getValue().addWithin(box, found);
+			}
+		}
+		return found;
+	}
+
+	private static class Flock {
+		// last time each member asked about the flock
+		final Object2LongMap<LivingEntity> members = new Object2LongOpenHashMap<>();
+		Long2ObjectMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+
+		void update(long time) {
+			Long2ObjectMap<List<LivingEntity>> updated = new Long2ObjectOpenHashMap<>();
+
+			for (Iterator<Object2LongMap.Entry<LivingEntity>> it = members.object2LongEntrySet().iterator(); it.hasNext(); ) {
+				Object2LongMap.Entry<LivingEntity> entry = it.next();
+				LivingEntity member = entry.getKey();
+				if (member.removed || time - entry.getLongValue() > FORGET_TICKS) {
+					it.remove();
+					continue;
+				}
+
+				updated.computeIfAbsent(SectionPos.from(member).asLong(), k -> new ArrayList<>()).add(member);
+			}
+
+			sections = updated;
+		}
+
+		void addWithin(AxisAlignedBB box, List<LivingEntity> found) {
+			int minX = MathHelper.floor(box.minX - MARGIN) >> 4;
+			int maxX = MathHelper.floor(box.maxX + MARGIN) >> 4;
+			int minY = MathHelper.floor(box.minY - MARGIN) >> 4;
+			int maxY = MathHelper.floor(box.maxY + MARGIN) >> 4;
+			int minZ = MathHelper.floor(box.minZ - MARGIN) >> 4;
+			int maxZ = MathHelper.floor(box.maxZ + MARGIN) >> 4;
+
+			for (int sx = minX; sx <= maxX; sx++) {
+				for (int sy = minY; sy <= maxY; sy++) {
+					for (int sz = minZ; sz <= maxZ; sz++) {
+						List<LivingEntity> section = sections.get(SectionPos.asLong(sx, sy, sz));
+						if (section == null) {
+							continue;
+						}
+
+						for (LivingEntity member : section) {
+							// anything removed since the last update is out of the world already
+							if (!member.removed && member.getBoundingBox().intersects(box)) {
+								found.add(member);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+}
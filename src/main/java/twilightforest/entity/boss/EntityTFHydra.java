@@ -29,6 +29,7 @@ import twilightforest.TwilightForestMod;
 import twilightforest.block.BlockTFBossSpawner;
 import twilightforest.block.TFBlocks;
 import twilightforest.enums.BossVariant;
+import twilightforest.util.BlockVolumeWriter;
 import twilightforest.util.EntityUtil;
 import twilightforest.util.WorldUtil;
 
@@ -51,6 +52,7 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 
 	private static final int SECONDARY_FLAME_CHANCE = 10;
 	private static final int SECONDARY_MORTAR_CHANCE = 16;
+	private static final int SECONDARY_TARGET_RANGE = 20;
 
 	private static final DataParameter<Boolean> DATA_SPAWNHEADS = EntityDataManager.createKey(EntityTFHydra.class, DataSerializers.BOOLEAN);
 
@@ -65,6 +67,9 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 	private final MultiPartEntityPart tail = new MultiPartEntityPart(this, "tail", 4F, 4F);
 	private final ServerBossInfo bossInfo = new ServerBossInfo(getDisplayName(), BossInfo.Color.BLUE, BossInfo.Overlay.PROGRESS);
 
+	// shared by the body, tail and heads for finding what they hit
+	final MultipartBroadphase broadphase = new MultipartBroadphase(this, this::getSearchArea);
+
 	private int ticksSinceDamaged = 0;
 
 	public EntityTFHydra(EntityType<? extends EntityTFHydra> type, World world) {
@@ -228,8 +233,8 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 		// destroy blocks
 		if (!this.world.isRemote) {
 			if (hurtTime == 0) {
-				this.collideWithEntities(this.world.getEntitiesWithinAABBExcludingEntity(this, this.body.getBoundingBox()), this.body);
-				this.collideWithEntities(this.world.getEntitiesWithinAABBExcludingEntity(this, this.tail.getBoundingBox()), this.tail);
+				this.collideWithEntities(this.broadphase.getEntitiesWithin(this, this.body.getBoundingBox()), this.body);
+				this.collideWithEntities(this.broadphase.getEntitiesWithin(this, this.tail.getBoundingBox()), this.tail);
 			}
 
 			this.destroyBlocksInAABB(this.body.getBoundingBox());
@@ -484,7 +489,7 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 			}
 		}
 
-		LivingEntity secondaryTarget = findSecondaryTarget(20);
+		LivingEntity secondaryTarget = findSecondaryTarget(SECONDARY_TARGET_RANGE);
 
 		if (secondaryTarget != null) {
 			float distance = secondaryTarget.getDistance(this);
@@ -525,13 +530,37 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 
 	@Nullable
 	private LivingEntity findSecondaryTarget(double range) {
-		return this.world.getEntitiesWithinAABB(LivingEntity.class, new AxisAlignedBB(this.getX(), this.getY(), this.getZ(), this.getX() + 1, this.getY() + 1, this.getZ() + 1).grow(range, range, range))
+		return this.broadphase.<LivingEntity>getEntitiesWithin(LivingEntity.class, getBlockBox().grow(range, range, range))
 				.stream()
 				.filter(e -> !(e instanceof EntityTFHydra || e instanceof EntityTFHydraPart))
 				.filter(e -> e != getAttackTarget() && !isAnyHeadTargeting(e) && getEntitySenses().canSee(e))
 				.min(Comparator.comparingDouble(this::getDistanceSq)).orElse(null);
 	}
 
+	/**
+	 * The block at our position, which the secondary target and head searches are centered on
+	 */
+	AxisAlignedBB getBlockBox() {
+		return new AxisAlignedBB(this.getX(), this.getY(), this.getZ(), this.getX() + 1, this.getY() + 1, this.getZ() + 1);
+	}
+
+	/**
+	 * Everywhere the parts look for entities in a normal tick: around the secondary target range, and every part
+	 */
+	private AxisAlignedBB getSearchArea() {
+		AxisAlignedBB area = getBlockBox().grow(SECONDARY_TARGET_RANGE);
+		for (Entity part : partArray) {
+			area = area.union(part.getBoundingBox());
+		}
+		for (HydraHeadContainer head : hc) {
+			if (head.headEntity != null) {
+				// biting looks a block above and below
+				area = area.union(head.headEntity.getBoundingBox().grow(0.0D, 1.0D, 0.0D));
+			}
+		}
+		return area;
+	}
+
 	private boolean isAnyHeadTargeting(Entity targetEntity) {
 		for (int i = 0; i < numHeads; i++) {
 			if (hc[i].targetEntity != null && hc[i].targetEntity.equals(targetEntity)) {
@@ -586,11 +615,13 @@ public class EntityTFHydra extends MobEntity implements IEntityMultiPart, IMob {
 
 	private void destroyBlocksInAABB(AxisAlignedBB box) {
 		if (ForgeEventFactory.getMobGriefingEvent(world, this)) {
+			BlockVolumeWriter writer = new BlockVolumeWriter(world);
 			for (BlockPos pos : WorldUtil.getAllInBB(box)) {
 				if (EntityUtil.canDestroyBlock(world, pos, this)) {
-					world.destroyBlock(pos, false);
+					writer.destroy(pos, false);
 				}
 			}
+			writer.apply();
 		}
 	}
 
@@ -60,6 +60,8 @@ public class EntityTFNaga extends MonsterEntity implements IEntityMultiPart {
 	private int currentSegmentCount = 0; // not including head
 	private final float healthPerSegment;
 	private final EntityTFNagaSegment[] bodySegments = new EntityTFNagaSegment[MAX_SEGMENTS];
+	// shared by the segments for finding what they bump into
+	final MultipartBroadphase broadphase = new MultipartBroadphase(this, this::getSegmentsArea);
 	private AIMovementPattern movementAI;
 	private int ticksSinceDamaged = 0;
 
@@ -756,6 +758,19 @@ public class EntityTFNaga extends MonsterEntity implements IEntityMultiPart {
 		}
 	}
 
+	/**
+	 * Everywhere the segments look for entities to bump into
+	 */
+	private AxisAlignedBB getSegmentsArea() {
+		AxisAlignedBB area = this.getBoundingBox();
+		for (EntityTFNagaSegment segment : bodySegments) {
+			if (!segment.isInvisible()) {
+				area = area.union(segment.getBoundingBox().grow(0.2D, 0.0D, 0.2D));
+			}
+		}
+		return area;
+	}
+
 	/**
 	 * Sets the heading (ha ha) of the bodySegments segments
 	 */
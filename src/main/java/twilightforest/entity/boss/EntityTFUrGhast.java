@@ -1,6 +1,5 @@
 package twilightforest.entity.boss;
 
-import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -27,7 +26,6 @@ import net.minecraft.world.storage.WorldInfo;
 import twilightforest.TFFeature;
 import twilightforest.TwilightForestMod;
 import twilightforest.block.BlockTFBossSpawner;
-import twilightforest.block.BlockTFGhastTrap;
 import twilightforest.block.TFBlocks;
 import twilightforest.client.particle.TFParticleType;
 import twilightforest.entity.EntityTFMiniGhast;
@@ -36,6 +34,7 @@ import twilightforest.entity.NoClipMoveHelper;
 import twilightforest.entity.TFEntities;
 import twilightforest.enums.BossVariant;
 import twilightforest.loot.TFTreasure;
+import twilightforest.tileentity.GhastTrapRegistry;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -419,9 +418,7 @@ public class EntityTFUrGhast extends EntityTFTowerGhast {
 		for (BlockPos trap : this.trapLocations) {
 			AxisAlignedBB aabb = new AxisAlignedBB(trap, trap.add(1, 1, 1)).grow(8D, 16D, 8D);
 
-			List<EntityTFMiniGhast> nearbyGhasts = world.getEntitiesWithinAABB(EntityTFMiniGhast.class, aabb);
-
-			if (nearbyGhasts.size() >= 4) {
+			if (GhastTrapRegistry.get(world).getGhastsWithin(aabb).size() >= 4) {
 				trapsWithEnoughGhasts++;
 			}
 		}
@@ -483,25 +480,13 @@ public class EntityTFUrGhast extends EntityTFTowerGhast {
 	}
 
 	private void scanForTraps(int scanRangeXZ, int scanRangeY, BlockPos pos) {
-		for (int sx = -scanRangeXZ; sx <= scanRangeXZ; sx++) {
-			for (int sz = -scanRangeXZ; sz <= scanRangeXZ; sz++) {
-				for (int sy = -scanRangeY; sy <= scanRangeY; sy++) {
-					BlockPos trapCoords = pos.add(sx, sy, sz);
-					if (isTrapAt(trapCoords)) {
-						trapLocations.add(trapCoords);
-					}
-				}
+		for (BlockPos trapCoords : GhastTrapRegistry.get(world).getTrapsNear(pos, scanRangeXZ, scanRangeY)) {
+			if (!trapLocations.contains(trapCoords)) {
+				trapLocations.add(trapCoords);
 			}
 		}
 	}
 
-	private boolean isTrapAt(BlockPos pos) {
-		BlockState inactive = TFBlocks.ghast_trap.get().getDefaultState().with(BlockTFGhastTrap.ACTIVE, false);
-		BlockState active = TFBlocks.ghast_trap.get().getDefaultState().with(BlockTFGhastTrap.ACTIVE, true);
-		return world.isBlockLoaded(pos)
-				&& (world.getBlockState(pos) == inactive || world.getBlockState(pos) == active);
-	}
-
 	@Override
 	public void addTrackingPlayer(ServerPlayerEntity player) {
 		super.addTrackingPlayer(player);
@@ -671,7 +671,7 @@ public class HydraHeadContainer {
 		}
 		if (headEntity.getState() == State.BITING) {
 			// damage nearby things
-			List<Entity> nearbyList = headEntity.world.getEntitiesWithinAABBExcludingEntity(headEntity, headEntity.getBoundingBox().grow(0.0, 1.0, 0.0));
+			List<Entity> nearbyList = hydra.broadphase.getEntitiesWithin(headEntity, headEntity.getBoundingBox().grow(0.0, 1.0, 0.0));
 
 			for (Entity nearby : nearbyList) {
 				if (nearby instanceof LivingEntity && !(nearby instanceof EntityTFHydraPart) && !(nearby instanceof EntityTFHydra) && !(nearby instanceof MultiPartEntityPart)) {
@@ -718,7 +718,7 @@ public class HydraHeadContainer {
 		double rz = hitpos == null ? range : Math.min(range, Math.abs(headEntity.getZ() - hitpos.getZ()));
 		Vec3d destVec = srcVec.add(lookVec.x * range, lookVec.y * range, lookVec.z * range);
 		float var9 = 3.0F;
-		List<Entity> possibleList = headEntity.world.getEntitiesWithinAABBExcludingEntity(headEntity, headEntity.getBoundingBox().offset(lookVec.x * rx, lookVec.y * ry, lookVec.z * rz).grow(var9, var9, var9));
+		List<Entity> possibleList = hydra.broadphase.getEntitiesWithin(headEntity, headEntity.getBoundingBox().offset(lookVec.x * rx, lookVec.y * ry, lookVec.z * rz).grow(var9, var9, var9));
 		double hitDist = 0;
 
 		for (Entity possibleEntity : possibleList) {
@@ -758,7 +758,7 @@ public class HydraHeadContainer {
 	 */
 	@Nullable
 	private EntityTFHydraHead findNearbyHead(String string) {
-		List<EntityTFHydraHead> nearbyHeads = hydra.world.getEntitiesWithinAABB(EntityTFHydraHead.class, new AxisAlignedBB(hydra.getX(), hydra.getY(), hydra.getZ(), hydra.getX() + 1, hydra.getY() + 1, hydra.getZ() + 1).grow(16.0D, 16.0D, 16.0D));
+		List<EntityTFHydraHead> nearbyHeads = hydra.broadphase.getEntitiesWithin(EntityTFHydraHead.class, hydra.getBlockBox().grow(16.0D, 16.0D, 16.0D));
 
 		for (EntityTFHydraHead nearbyHead : nearbyHeads) {
 			if (nearbyHead.getPartName().equals(string)) {
@@ -0,0 +1,94 @@
+package twilightforest.entity.boss;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.EntityPredicates;
+import net.minecraft.util.math.AxisAlignedBB;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entity lookups for a boss made of many parts, which would otherwise each query the world every tick.
+ * <p>
+ * The first lookup in a tick gathers every entity within the area all the parts could look in, in one query.
+ * Each lookup then just goes through that list. Anything looking outside the area, like a head looking far off,
+ * goes to the world the usual way.
+ */
+class MultipartBroadphase {
+
+	// room for parts to move after the list is gathered
+	private static final double MARGIN = 2.0D;
+
+	private final Entity owner;
+	private final Supplier<AxisAlignedBB> area;
+
+	private long gatheredAt = Long.MIN_VALUE;
+	private AxisAlignedBB gatheredArea;
+	private List<Entity> gathered = Collections.emptyList();
+
+	/**
+	 * @param area the union of the boxes the parts look in each tick, as of the start of the tick
+	 */
+	MultipartBroadphase(Entity owner, Supplier<AxisAlignedBB> area) {
+		this.owner = owner;
+		this.area = area;
+	}
+
+	/**
+	 * Same as {@link net.minecraft.world.World#getEntitiesWithinAABBExcludingEntity}
+	 */
+	List<Entity> getEntitiesWithin(@Nullable Entity exclude, AxisAlignedBB box) {
+		if (!covers(box)) {
+			return owner.world.getEntitiesWithinAABBExcludingEntity(exclude, box);
+		}
+
+		List<Entity> found = new ArrayList<>();
+		for (Entity entity : gathered) {
+			if (entity != exclude && isPresent(entity) && entity.getBoundingBox().intersects(box)) {
+				found.add(entity);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Same as {@link net.minecraft.world.World#getEntitiesWithinAABB(Class, AxisAlignedBB)}
+	 */
+	<T extends Entity> List<T> getEntitiesWithin(Class<? extends T> type, AxisAlignedBB box) {
+		if (!covers(box)) {
+			return owner.world.getEntitiesWithinAABB(type, box);
+		}
+
+		List<T> found = new ArrayList<>();
+		for (Entity entity : gathered) {
+			if (type.isInstance(entity) && isPresent(entity) && entity.getBoundingBox().intersects(box)) {
+				found.add(type.cast(entity));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * The list is gathered once a tick, so leave out anything killed or removed since, by another part for one
+	 */
+	private static boolean isPresent(Entity entity) {
+		return !entity.removed && (!(entity instanceof LivingEntity) || entity.isAlive());
+	}
+
+	private boolean covers(AxisAlignedBB box) {
+		long time = owner.world.getGameTime();
+		if (gatheredAt != time) {
+			gatheredAt = time;
+			gatheredArea = area.get().grow(MARGIN);
+			gathered = owner.world.getEntitiesInAABBexcluding(null, gatheredArea, EntityPredicates.NOT_SPECTATING);
+		}
+
+		return box.minX >= gatheredArea.minX && box.maxX <= gatheredArea.maxX
+				&& box.minY >= gatheredArea.minY && box.maxY <= gatheredArea.maxY
+				&& box.minZ >= gatheredArea.minZ && box.maxZ <= gatheredArea.maxZ;
+	}
+}
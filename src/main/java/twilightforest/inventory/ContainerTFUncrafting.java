@@ -287,13 +287,13 @@ public class ContainerTFUncrafting extends Container {
 		return ingredient;
 	}
 
-	private static IRecipe[] getRecipesFor(ItemStack inputStack) {
+	private IRecipe[] getRecipesFor(ItemStack inputStack) {
 
 		List<IRecipe> recipes = new ArrayList<>();
 
 		if (!inputStack.isEmpty()) {
-			for (IRecipe recipe : CraftingManager.REGISTRY) {
-				if (recipe.canFit(3, 3) && !recipe.getIngredients().isEmpty() && matches(inputStack, recipe.getRecipeOutput())) {
+			for (IRecipe recipe : UncraftingRecipeIndex.get(world.getRecipeManager()).getRecipesMaking(inputStack.getItem())) {
+				if (matches(inputStack, recipe.getRecipeOutput())) {
 					recipes.add(recipe);
 				}
 			}
@@ -308,16 +308,7 @@ public class ContainerTFUncrafting extends Container {
 	}
 
 	private static IRecipe[] getRecipesFor(CraftingInventory matrix, World world) {
-
-		List<IRecipe> recipes = new ArrayList<>();
-
-		for (IRecipe recipe : CraftingManager.REGISTRY) {
-			if (recipe.matches(matrix, world)) {
-				recipes.add(recipe);
-			}
-		}
-
-		return recipes.toArray(new IRecipe[0]);
+		return UncraftingRecipeIndex.get(world.getRecipeManager()).getRecipesMatching(matrix, world).toArray(new IRecipe[0]);
 	}
 
 	private void chooseRecipe(CraftingInventory inventory) {
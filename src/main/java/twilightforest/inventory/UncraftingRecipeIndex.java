@@ -0,0 +1,121 @@
+package twilightforest.inventory;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Crafting recipes indexed by the item they make and by the items they take, so the uncrafting table
+ * can find its recipes without going through every recipe there is each time a slot changes.
+ * <p>
+ * Built on first use from a recipe manager's recipes, and thrown away when recipes are reloaded.
+ * Recipes are always handed back in the recipe manager's order, so cycling through conflicts behaves the same.
+ */
+public class UncraftingRecipeIndex {
+
+	private static final Map<RecipeManager, UncraftingRecipeIndex> INDEXES = new WeakHashMap<>();
+
+	// recipes by the item they craft, only those that can be uncrafted
+	private final Map<Item, List<IRecipe<CraftingInventory>>> byOutput = new HashMap<>();
+	// recipes by every item any of their ingredients accept
+	private final Map<Item, List<IRecipe<CraftingInventory>>> byIngredient = new HashMap<>();
+	// recipes with no ingredients to go by, such as dyeing armor, which have to be checked for any grid
+	private final List<IRecipe<CraftingInventory>> special = new ArrayList<>();
+	private final Object2IntMap<IRecipe<CraftingInventory>> order = new Object2IntOpenHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	private UncraftingRecipeIndex(RecipeManager manager) {
+		for (IRecipe<?> iRecipe : manager.getRecipes()) {
+			if (iRecipe.getType() != IRecipeType.CRAFTING) {
+				continue;
+			}
+
+			IRecipe<CraftingInventory> recipe = (IRecipe<CraftingInventory>) iRecipe;
+			order.put(recipe, order.size());
+
+			if (recipe.getIngredients().isEmpty()) {
+				special.add(recipe);
+				continue;
+			}
+
+			if (recipe.canFit(3, 3)) {
+				byOutput.computeIfAbsent(recipe.getRecipeOutput().getItem(), k -> new ArrayList<>()).add(recipe);
+			}
+
+			Set<Item> accepted = new HashSet<>();
+			for (Ingredient ingredient : recipe.getIngredients()) {
+				for (ItemStack stack : ingredient.getMatchingStacks()) {
+					accepted.add(stack.getItem());
+				}
+			}
+			for (Item item : accepted) {
+				byIngredient.computeIfAbsent(item, k -> new ArrayList<>()).add(recipe);
+			}
+		}
+	}
+
+	public static synchronized UncraftingRecipeIndex get(RecipeManager manager) {
+		return INDEXES.computeIfAbsent(manager, UncraftingRecipeIndex::new);
+	}
+
+	/**
+	 * Drops the index for the recipe manager, to be called when its recipes are reloaded
+	 */
+	public static synchronized void invalidate(RecipeManager manager) {
+		INDEXES.remove(manager);
+	}
+
+	/**
+	 * @return the recipes that can be uncrafted and make the given item, in recipe manager order
+	 */
+	public List<IRecipe<CraftingInventory>> getRecipesMaking(Item item) {
+		return byOutput.getOrDefault(item, Collections.emptyList());
+	}
+
+	/**
+	 * @return the recipes that match the grid, in recipe manager order
+	 */
+	public List<IRecipe<CraftingInventory>> getRecipesMatching(CraftingInventory matrix, World world) {
+		// any recipe that matches has to take the first item in the grid, so only those need checking
+		Item firstItem = null;
+		for (int i = 0; i < matrix.getSizeInventory() && firstItem == null; i++) {
+			ItemStack stack = matrix.getStackInSlot(i);
+			if (!stack.isEmpty()) {
+				firstItem = stack.getItem();
+			}
+		}
+
+		List<IRecipe<CraftingInventory>> matching = new ArrayList<>();
+		if (firstItem != null) {
+			for (IRecipe<CraftingInventory> recipe : byIngredient.getOrDefault(firstItem, Collections.emptyList())) {
+				if (recipe.matches(matrix, world)) {
+					matching.add(recipe);
+				}
+			}
+		}
+		for (IRecipe<CraftingInventory> recipe : special) {
+			if (recipe.matches(matrix, world)) {
+				matching.add(recipe);
+			}
+		}
+
+		matching.sort((a, b) -> Integer.compare(order.getInt(a), order.getInt(b)));
+		return matching;
+	}
+}
@@ -21,6 +21,7 @@ import net.minecraftforge.event.ForgeEventFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import twilightforest.advancements.TFAdvancements;
 import twilightforest.block.TFBlocks;
+import twilightforest.util.BlockVolumeWriter;
 import twilightforest.util.WorldUtil;
 
 import java.util.ArrayList;
@@ -130,14 +131,21 @@ public class ItemTFCrumbleHorn extends ItemTF {
 	}
 
 	private int crumbleBlocksInAABB(ItemStack stack, World world, LivingEntity living, AxisAlignedBB box) {
-		int crumbled = 0;
+		BlockVolumeWriter writer = new BlockVolumeWriter(world);
+		List<BlockPos> crumbled = new ArrayList<>();
 		for (BlockPos pos : WorldUtil.getAllInBB(box)) {
-			if (crumbleBlock(stack, world, living, pos)) crumbled++;
+			if (crumbleBlock(writer, world, living, pos)) crumbled.add(pos.toImmutable());
 		}
-		return crumbled;
+		writer.apply();
+
+		// the triggers look at what the block became, so only once it's written
+		for (BlockPos pos : crumbled) {
+			postTrigger(living, stack, world, pos);
+		}
+		return crumbled.size();
 	}
 
-	private boolean crumbleBlock(ItemStack stack, World world, LivingEntity living, BlockPos pos) {
+	private boolean crumbleBlock(BlockVolumeWriter writer, World world, LivingEntity living, BlockPos pos) {
 
 		BlockState state = world.getBlockState(pos);
 		Block block = state.getBlock();
@@ -146,11 +154,9 @@ public class ItemTFCrumbleHorn extends ItemTF {
 
 		for (Pair<Predicate<BlockState>, UnaryOperator<BlockState>> transform : crumbleTransforms) {
 			if (transform.getLeft().test(state) && world.rand.nextInt(CHANCE_CRUMBLE) == 0) {
-				world.setBlockState(pos, transform.getRight().apply(state), 3);
+				writer.set(pos, transform.getRight().apply(state));
 				world.playEvent(2001, pos, Block.getStateId(state));
 
-				postTrigger(living, stack, world, pos);
-
 				return true;
 			}
 		}
@@ -159,18 +165,13 @@ public class ItemTFCrumbleHorn extends ItemTF {
 			if (predicate.test(state) && world.rand.nextInt(CHANCE_HARVEST) == 0) {
 				if (living instanceof PlayerEntity) {
 					if (block.canHarvestBlock(state, world, pos, (PlayerEntity) living)) {
-						world.removeBlock(pos, false);
 						block.harvestBlock(world, (PlayerEntity) living, pos, state, world.getTileEntity(pos), ItemStack.EMPTY);
-						world.playEvent(2001, pos, Block.getStateId(state));
-
-						postTrigger(living, stack, world, pos);
+						writer.destroy(pos, false);
 
 						return true;
 					}
 				} else if (ForgeEventFactory.getMobGriefingEvent(world, living)) {
-					world.destroyBlock(pos, true);
-
-					postTrigger(living, stack, world, pos);
+					writer.destroy(pos, true);
 
 					return true;
 				}
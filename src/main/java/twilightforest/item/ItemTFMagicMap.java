@@ -17,6 +17,7 @@ import net.minecraftforge.fml.RegistryObject;
 import twilightforest.TFFeature;
 import twilightforest.TFMagicMapData;
 import twilightforest.biomes.TFBiomes;
+import twilightforest.util.BiomeGrid;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
@@ -94,7 +95,6 @@ public class ItemTFMagicMap extends FilledMapItem {
 	@Override
 	public void updateMapData(World world, Entity viewer, MapData data) {
 		if (world.dimension.getType() == data.dimension && viewer instanceof PlayerEntity) {
-			int biomesPerPixel = 4;
 			int blocksPerPixel = 16; // don't even bother with the scale, just hardcode it
 			int centerX = data.xCenter;
 			int centerZ = data.zCenter;
@@ -102,38 +102,32 @@ public class ItemTFMagicMap extends FilledMapItem {
 			int viewerZ = MathHelper.floor(viewer.getZ() - (double) centerZ) / blocksPerPixel + 64;
 			int viewRadiusPixels = 512 / blocksPerPixel;
 
-			// use the generation map, which is larger scale than the other biome map
-			int startX = (centerX / blocksPerPixel - 64) * biomesPerPixel;
-			int startZ = (centerZ / blocksPerPixel - 64) * biomesPerPixel;
-			Biome[] biomes = world.getBiomeProvider().getBiomesForGeneration((Biome[]) null, startX, startZ, 128 * biomesPerPixel, 128 * biomesPerPixel);
+			TFMagicMapData tfData = (TFMagicMapData) data;
+			if (tfData.pixelBiomes == null) {
+				tfData.pixelBiomes = sampleBiomes(world, centerX, centerZ, blocksPerPixel);
+			}
+			BiomeGrid biomes = tfData.pixelBiomes;
 
 			for (int xPixel = viewerX - viewRadiusPixels + 1; xPixel < viewerX + viewRadiusPixels; ++xPixel) {
 				for (int zPixel = viewerZ - viewRadiusPixels - 1; zPixel < viewerZ + viewRadiusPixels; ++zPixel) {
 					if (xPixel >= 0 && zPixel >= 0 && xPixel < 128 && zPixel < 128) {
+						int pixelIndex = xPixel + zPixel * 128;
+						if (tfData.revealedPixels.get(pixelIndex)) {
+							continue;
+						}
+
 						int xPixelDist = xPixel - viewerX;
 						int zPixelDist = zPixel - viewerZ;
 						boolean shouldFuzz = xPixelDist * xPixelDist + zPixelDist * zPixelDist > (viewRadiusPixels - 2) * (viewRadiusPixels - 2);
 
-						Biome biome = biomes[xPixel * biomesPerPixel + zPixel * biomesPerPixel * 128 * biomesPerPixel];
-
-						// make streams more visible
-						Biome overBiome = biomes[xPixel * biomesPerPixel + zPixel * biomesPerPixel * 128 * biomesPerPixel + 1];
-						Biome downBiome = biomes[xPixel * biomesPerPixel + (zPixel * biomesPerPixel + 1) * 128 * biomesPerPixel];
-						if (overBiome == TFBiomes.stream.get() || downBiome == TFBiomes.stream.get()) {
-							biome = TFBiomes.stream.get();
-						}
-
-						MapColorBrightness colorBrightness = this.getMapColorPerBiome(world, biome);
+						if (xPixelDist * xPixelDist + zPixelDist * zPixelDist < viewRadiusPixels * viewRadiusPixels && (!shouldFuzz || (xPixel + zPixel & 1) != 0)) {
+							MapColorBrightness colorBrightness = this.getMapColorPerBiome(world, biomes.get(pixelIndex));
 
-						MaterialColor mapcolor = colorBrightness.color;
-						int brightness = colorBrightness.brightness;
-
-						if (zPixel >= 0 && xPixelDist * xPixelDist + zPixelDist * zPixelDist < viewRadiusPixels * viewRadiusPixels && (!shouldFuzz || (xPixel + zPixel & 1) != 0)) {
-							byte orgPixel = data.colors[xPixel + zPixel * 128];
-							byte ourPixel = (byte) (mapcolor.colorIndex * 4 + brightness);
+							byte orgPixel = data.colors[pixelIndex];
+							byte ourPixel = (byte) (colorBrightness.color.colorIndex * 4 + colorBrightness.brightness);
 
 							if (orgPixel != ourPixel) {
-								data.colors[xPixel + zPixel * 128] = ourPixel;
+								data.colors[pixelIndex] = ourPixel;
 								data.updateMapData(xPixel, zPixel);
 							}
 
@@ -144,10 +138,12 @@ public class ItemTFMagicMap extends FilledMapItem {
 								byte mapX = (byte) ((worldX - centerX) / (float) blocksPerPixel * 2F);
 								byte mapZ = (byte) ((worldZ - centerZ) / (float) blocksPerPixel * 2F);
 								TFFeature feature = TFFeature.getFeatureAt(worldX, worldZ, world);
-								TFMagicMapData tfData = (TFMagicMapData) data;
 								tfData.tfDecorations.add(new TFMagicMapData.TFMapDecoration(feature.ordinal(), mapX, mapZ, (byte) 8));
 								//TwilightForestMod.LOGGER.info("Found feature at {}, {}. Placing it on the map at {}, {}", worldX, worldZ, mapX, mapZ);
 							}
+
+							// the pixel will never change again, so don't look at it on later ticks
+							tfData.revealedPixels.set(pixelIndex);
 						}
 					}
 				}
@@ -155,6 +151,33 @@ public class ItemTFMagicMap extends FilledMapItem {
 		}
 	}
 
+	/**
+	 * Reduces the generation biome map under the whole map to the single biome each pixel is coloured by.
+	 * This is done once per map, since the map center never moves.
+	 * <p>
+	 * Each pixel only needs three biomes from the generation map, so they're looked up one at a time rather than
+	 * fetching the generation map for the whole area.
+	 */
+	private static BiomeGrid sampleBiomes(World world, int centerX, int centerZ, int blocksPerPixel) {
+		int biomesPerPixel = 4;
+
+		// use the generation map, which is larger scale than the other biome map
+		int startX = (centerX / blocksPerPixel - 64) * biomesPerPixel;
+		int startZ = (centerZ / blocksPerPixel - 64) * biomesPerPixel;
+		Biome stream = TFBiomes.stream.get();
+
+		return BiomeGrid.sample(128, 128, (xPixel, zPixel) -> {
+			int x = startX + xPixel * biomesPerPixel;
+			int z = startZ + zPixel * biomesPerPixel;
+
+			// make streams more visible
+			if (world.getNoiseBiomeRaw(x + 1, 0, z) == stream || world.getNoiseBiomeRaw(x, 0, z + 1) == stream) {
+				return stream;
+			}
+			return world.getNoiseBiomeRaw(x, 0, z);
+		});
+	}
+
 	private MapColorBrightness getMapColorPerBiome(World world, Biome biome) {
 		if (BIOME_COLORS.isEmpty()) {
 			setupBiomeColors();
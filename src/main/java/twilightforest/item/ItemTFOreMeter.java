@@ -1,5 +1,6 @@
 package twilightforest.item;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.block.Blocks;
@@ -9,18 +10,32 @@ import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import twilightforest.TwilightForestMod;
 import twilightforest.block.TFBlocks;
+import twilightforest.util.BlockChangeWatchers;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 public class ItemTFOreMeter extends ItemTF {
 
+	private static final int MAX_CACHED_CHUNKS = 256;
+	// changes that don't notify neighbours aren't seen, so scans are only trusted for so long
+	private static final int MAX_SCAN_AGE = 200;
+	private static final Map<World, Long2ObjectLinkedOpenHashMap<ChunkScan>> SCAN_CACHE = new WeakHashMap<>();
+
 	protected ItemTFOreMeter(Properties props) {
 		super(props);
 	}
@@ -62,7 +77,7 @@ public class ItemTFOreMeter extends ItemTF {
 		ScanResult dummy = new ScanResult();
 		for (int cx = chunkX - radius; cx <= chunkX + radius; cx++) {
 			for (int cz = chunkZ - radius; cz <= chunkZ + radius; cz++) {
-				Map<BlockState, ScanResult> results = countBlocksInChunk(world, chunkX, chunkZ);
+				Map<BlockState, ScanResult> results = getBlockCountsInChunk(world, cx, cz);
 
 				countStone += results.entrySet().stream().filter(e -> e.getKey().getBlock() == Blocks.STONE).mapToInt(e -> e.getValue().count).sum();
 				countDirt += results.entrySet().stream().filter(e -> e.getKey().getBlock() == Blocks.DIRT).mapToInt(e -> e.getValue().count).sum();
@@ -99,20 +114,87 @@ public class ItemTFOreMeter extends ItemTF {
 		return Float.toString((float) count / (float) total * 100F) + "%";
 	}
 
-	private Map<BlockState, ScanResult> countBlocksInChunk(World world, int cx, int cz) {
+	/**
+	 * Forgets everything scanned in the world, to be called when it unloads
+	 */
+	public static void forgetWorld(World world) {
+		SCAN_CACHE.remove(world);
+	}
+
+	/**
+	 * Counts are kept until a block in the chunk changes, or for {@link #MAX_SCAN_AGE} ticks at most, so metering the
+	 * same area again is nearly free
+	 */
+	private static Map<BlockState, ScanResult> getBlockCountsInChunk(World world, int cx, int cz) {
+		Long2ObjectLinkedOpenHashMap<ChunkScan> scans = SCAN_CACHE.computeIfAbsent(world, w -> new Long2ObjectLinkedOpenHashMap<>());
+		long key = ChunkPos.asLong(cx, cz);
+		long time = world.getGameTime();
+
+		ChunkScan scan = scans.getAndMoveToLast(key);
+		if (scan != null && time - scan.scannedAt > MAX_SCAN_AGE) {
+			scans.remove(key);
+			BlockChangeWatchers.unwatch(world, scan);
+			scan = null;
+		}
+
+		if (scan == null) {
+			scan = new ChunkScan(key, time, countBlocksInChunk(world, cx, cz));
+			scans.putAndMoveToLast(key, scan);
+			BlockChangeWatchers.watch(world, new MutableBoundingBox(cx << 4, 0, cz << 4, (cx << 4) + 15, 255, (cz << 4) + 15), scan);
+
+			if (scans.size() > MAX_CACHED_CHUNKS) {
+				ChunkScan eldest = scans.removeFirst();
+				BlockChangeWatchers.unwatch(world, eldest);
+			}
+		}
+
+		return scan.results;
+	}
+
+	private static Map<BlockState, ScanResult> countBlocksInChunk(World world, int cx, int cz) {
 		Map<BlockState, ScanResult> ret = new IdentityHashMap<>();
+		Chunk chunk = world.getChunk(cx, cz);
+		BlockState diamond = Blocks.DIAMOND_ORE.getDefaultState();
+		List<ChunkSection> diamondSections = new ArrayList<>();
+
+		// count straight from the section palettes instead of looking at every block
+		for (ChunkSection section : chunk.getSections()) {
+			if (ChunkSection.isEmpty(section)) {
+				continue;
+			}
+
+			boolean[] hasDiamond = new boolean[1];
+			section.getData().count((state, count) -> {
+				ret.computeIfAbsent(state, s -> new ScanResult()).count += count;
+				if (state == diamond) {
+					hasDiamond[0] = true;
+				}
+			});
+
+			if (hasDiamond[0]) {
+				diamondSections.add(section);
+			}
+		}
+
+		// we only report exposure for diamonds, so only look around those
+		ScanResult diamondResult = ret.get(diamond);
 		BlockPos.Mutable pos = new BlockPos.Mutable();
-		for (int x = cx << 4; x < (cx << 4) + 16; x++) {
-			for (int z = cz << 4; z < (cz << 4) + 16; z++) {
-				for (int y = 0; y < 256; y++) {
-					BlockState state = world.getBlockState(pos.setPos(x, y, z));
-					ScanResult res = ret.computeIfAbsent(state, s -> new ScanResult());
-					res.count++;
-
-					for (Direction e : Direction.values()) {
-						if (world.isAirBlock(pos.setPos(x, y, z).move(e))) {
-							res.exposedCount++;
-							break;
+		for (ChunkSection section : diamondSections) {
+			for (int x = 0; x < 16; x++) {
+				for (int y = 0; y < 16; y++) {
+					for (int z = 0; z < 16; z++) {
+						if (section.getBlockState(x, y, z) != diamond) {
+							continue;
+						}
+
+						int worldX = (cx << 4) + x;
+						int worldY = section.getYLocation() + y;
+						int worldZ = (cz << 4) + z;
+						for (Direction e : Direction.values()) {
+							if (world.isAirBlock(pos.setPos(worldX, worldY, worldZ).move(e))) {
+								diamondResult.exposedCount++;
+								break;
+							}
 						}
 					}
 				}
@@ -122,6 +204,27 @@ public class ItemTFOreMeter extends ItemTF {
 		return ret;
 	}
 
+	private static class ChunkScan implements BlockChangeWatchers.Watcher {
+		private final long key;
+		private final long scannedAt;
+		private final Map<BlockState, ScanResult> results;
+
+		ChunkScan(long key, long scannedAt, Map<BlockState, ScanResult> results) {
+			this.key = key;
+			this.scannedAt = scannedAt;
+			this.results = results;
+		}
+
+		@Override
+		public void onBlockChanged(IWorld world, BlockPos pos) {
+			Long2ObjectLinkedOpenHashMap<ChunkScan> scans = SCAN_CACHE.get(world);
+			if (scans != null && scans.get(key) == this) {
+				scans.remove(key);
+			}
+			BlockChangeWatchers.unwatch(world, this);
+		}
+	}
+
 	private static class ScanResult {
 		int count;
 		int exposedCount;
@@ -20,6 +20,7 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import twilightforest.util.BlockVolumeWriter;
 import twilightforest.util.WorldUtil;
 
 import javax.annotation.Nonnull;
@@ -125,13 +126,15 @@ public class ItemTFPeacockFan extends ItemTF {
 
 	private int fanBlocksInAABB(World world, PlayerEntity player, AxisAlignedBB box) {
 		int fan = 0;
+		BlockVolumeWriter writer = new BlockVolumeWriter(world);
 		for (BlockPos pos : WorldUtil.getAllInBB(box)) {
-			fan += fanBlock(world, player, pos);
+			fan += fanBlock(world, writer, player, pos);
 		}
+		writer.apply();
 		return fan;
 	}
 
-	private int fanBlock(World world, PlayerEntity player, BlockPos pos) {
+	private int fanBlock(World world, BlockVolumeWriter writer, PlayerEntity player, BlockPos pos) {
 		int cost = 0;
 
 		BlockState state = world.getBlockState(pos);
@@ -140,7 +143,7 @@ public class ItemTFPeacockFan extends ItemTF {
 			if (state.getBlock() instanceof FlowerBlock) {
 				if (state.getBlock().canHarvestBlock(state, world, pos, player) && random.nextInt(3) == 0) {
 					state.getBlock().harvestBlock(world, player, pos, state, world.getTileEntity(pos), ItemStack.EMPTY);
-					world.destroyBlock(pos, false);
+					writer.destroy(pos, false);
 				}
 			}
 		}
@@ -10,6 +10,7 @@ import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.network.NetworkEvent;
 import net.minecraftforge.registries.ForgeRegistries;
+import twilightforest.client.FoliageColorCache;
 
 import java.util.function.Supplier;
 
@@ -45,6 +46,7 @@ public class PacketChangeBiome {
 
 					chunkAt.getBiomeArray()[(message.pos.getZ() & 15) << 4 | (message.pos.getX() & 15)] = message.biomeId;
 
+					FoliageColorCache.invalidate(message.pos);
 					world.markBlockRangeForRenderUpdate(message.pos, message.pos.up(255));
 				}
 			});
@@ -0,0 +1,44 @@
+package twilightforest.network;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import twilightforest.capabilities.CapabilityList;
+import twilightforest.capabilities.progression.IProgressionCapability;
+
+import java.util.function.Supplier;
+
+public class PacketUpdateProgression {
+
+	private final long gates;
+
+	public PacketUpdateProgression(IProgressionCapability cap) {
+		gates = cap.getGates();
+	}
+
+	public PacketUpdateProgression(PacketBuffer buf) {
+		gates = buf.readLong();
+	}
+
+	public void encode(PacketBuffer buf) {
+		buf.writeLong(gates);
+	}
+
+	public static class Handler {
+
+		public static boolean onMessage(PacketUpdateProgression message, Supplier<NetworkEvent.Context> ctx) {
+			ctx.get().enqueueWork(new Runnable() {
+				@Override
+				public void run() {
+					PlayerEntity player = Minecraft.getInstance().player;
+					if (player != null) {
+						player.getCapability(CapabilityList.PROGRESSION).ifPresent(cap -> cap.setGates(message.gates));
+					}
+				}
+			});
+
+			return true;
+		}
+	}
+}
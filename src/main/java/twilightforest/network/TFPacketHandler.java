@@ -29,5 +29,6 @@ public class TFPacketHandler {
 		CHANNEL.messageBuilder(PacketUpdateShield.class, id++).encoder(PacketUpdateShield::encode).decoder(PacketUpdateShield::new).consumer(PacketUpdateShield.Handler::onMessage).add();
 		CHANNEL.messageBuilder(PacketSetSkylightEnabled.class, id++).encoder(PacketSetSkylightEnabled::encode).decoder(PacketSetSkylightEnabled::new).consumer(PacketSetSkylightEnabled.Handler::onMessage).add();
 		CHANNEL.messageBuilder(PacketUncraftingGui.class, id++).encoder(PacketUncraftingGui::encode).decoder(PacketUncraftingGui::new).consumer(PacketUncraftingGui.Handler::onMessage).add();
+		CHANNEL.messageBuilder(PacketUpdateProgression.class, id++).encoder(PacketUpdateProgression::encode).decoder(PacketUpdateProgression::new).consumer(PacketUpdateProgression.Handler::onMessage).add();
 	}
 }
@@ -82,22 +82,25 @@ public class ComponentTFHedgeMaze extends StructureTFComponentOld {
 		int nrooms = MSIZE / 3;
 		int rcoords[] = new int[nrooms * 2];
 
-		for (int i = 0; i < nrooms; i++) {
-			int rx, rz;
-			do {
-				rx = maze.rand.nextInt(MSIZE - 2) + 1;
-				rz = maze.rand.nextInt(MSIZE - 2) + 1;
-			} while (isNearRoom(rx, rz, rcoords));
-
-			maze.carveRoom1(rx, rz);
-
-			rcoords[i * 2] = rx;
-			rcoords[i * 2 + 1] = rz;
-		}
+		// the maze is the same in every chunk it generates in, so only work it out the first time
+		TFMazeCache.generate(ComponentTFHedgeMaze.class, maze, rcoords, () -> {
+			for (int i = 0; i < nrooms; i++) {
+				int rx, rz;
+				do {
+					rx = maze.rand.nextInt(MSIZE - 2) + 1;
+					rz = maze.rand.nextInt(MSIZE - 2) + 1;
+				} while (isNearRoom(rx, rz, rcoords));
+
+				maze.carveRoom1(rx, rz);
+
+				rcoords[i * 2] = rx;
+				rcoords[i * 2 + 1] = rz;
+			}
 
-		maze.generateRecursiveBacktracker(0, 0);
+			maze.generateRecursiveBacktracker(0, 0);
 
-		maze.add4Exits();
+			maze.add4Exits();
+		});
 
 		maze.copyToStructure(world.getWorld(), 1, FLOOR_LEVEL, 1, this, sbb);
 
@@ -0,0 +1,89 @@
+package twilightforest.structures;
+
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.gen.feature.structure.StructurePiece;
+import twilightforest.util.ChunkBoundingBoxIndex;
+
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Component list for laying out a structure, which keeps its components' bounding boxes indexed as they are added.
+ * Collision checks through {@link StructureTFComponentOld#findIntersecting} and
+ * {@link StructureTFComponentOld#findIntersectingExcluding} then only look at components near the box being
+ * checked, instead of every component laid out so far.
+ * <p>
+ * Components must not move their bounding box sideways, or replace it, once they are in the list.
+ */
+public class StructureTFComponentList extends AbstractList<StructurePiece> implements RandomAccess {
+
+	private final List<StructurePiece> components = new ArrayList<>();
+	private final ChunkBoundingBoxIndex<StructurePiece> index = new ChunkBoundingBoxIndex<>();
+
+	@Override
+	public StructurePiece get(int i) {
+		return components.get(i);
+	}
+
+	@Override
+	public int size() {
+		return components.size();
+	}
+
+	@Override
+	public StructurePiece set(int i, StructurePiece component) {
+		StructurePiece old = components.set(i, component);
+		index.remove(old);
+		addToIndex(component);
+		// the index hands back the earliest added match, so it has to be added in list order
+		if (i != components.size() - 1) {
+			reindex();
+		}
+		return old;
+	}
+
+	@Override
+	public void add(int i, StructurePiece component) {
+		components.add(i, component);
+		if (i == components.size() - 1) {
+			addToIndex(component);
+		} else {
+			reindex();
+		}
+		modCount++;
+	}
+
+	@Override
+	public StructurePiece remove(int i) {
+		StructurePiece old = components.remove(i);
+		index.remove(old);
+		modCount++;
+		return old;
+	}
+
+	@Nullable
+	public StructurePiece findIntersecting(MutableBoundingBox box) {
+		return index.findIntersecting(box);
+	}
+
+	@Nullable
+	public StructurePiece findIntersectingExcluding(MutableBoundingBox box, @Nullable StructurePiece exclude) {
+		return index.findIntersectingExcluding(box, exclude);
+	}
+
+	private void addToIndex(StructurePiece component) {
+		if (component.getBoundingBox() != null) {
+			index.add(component.getBoundingBox(), component);
+		}
+	}
+
+	private void reindex() {
+		index.clear();
+		for (StructurePiece component : components) {
+			addToIndex(component);
+		}
+	}
+}
@@ -611,11 +611,23 @@ public abstract class StructureTFComponentOld extends StructureTFComponent {
 		return false;
 	}
 
+	/**
+	 * Same as {@link StructurePiece#findIntersecting}, but uses the index when given a {@link StructureTFComponentList}.
+	 */
+	@Nullable
+	public static StructurePiece findIntersecting(List<StructurePiece> list, MutableBoundingBox toCheck) {
+		return findIntersectingExcluding(list, toCheck, null);
+	}
+
 	/**
 	 * Discover if bounding box can fit within the current bounding box object.
 	 */
 	@Nullable
-	public static StructurePiece findIntersectingExcluding(List<StructurePiece> list, MutableBoundingBox toCheck, StructurePiece exclude) {
+	public static StructurePiece findIntersectingExcluding(List<StructurePiece> list, MutableBoundingBox toCheck, @Nullable StructurePiece exclude) {
+		if (list instanceof StructureTFComponentList) {
+			return ((StructureTFComponentList) list).findIntersectingExcluding(toCheck, exclude);
+		}
+
 		Iterator<StructurePiece> iterator = list.iterator();
 		StructurePiece structurecomponent;
 
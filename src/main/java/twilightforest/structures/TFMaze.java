@@ -1,5 +1,6 @@
 package twilightforest.structures;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
@@ -61,18 +62,30 @@ public class TFMaze {
 	public static final int ROOM = 5;
 	public static final int DOOR = 6;
 
+	// neighbor directions in the order the backtracker checks them
+	private static final int[] RB_DX = {1, -1, 0, 0};
+	private static final int[] RB_DZ = {0, 0, 1, -1};
+
 	public Random rand;
+	private long seed;
 
 	public TFMaze(int cellsWidth, int cellsDepth) {
+		this(cellsWidth, cellsDepth, TFBlocks.maze_stone_chiseled.get().getDefaultState(), TFBlocks.maze_stone.get().getDefaultState(), Blocks.TORCH.getDefaultState());
+	}
+
+	/**
+	 * Takes the default blocks instead of looking them up, so a maze can be laid out without the blocks being registered
+	 */
+	TFMaze(int cellsWidth, int cellsDepth, BlockState wallBlockState, BlockState rootBlockState, BlockState torchBlockState) {
 		// default values
 		oddBias = 3;
 		evenBias = 1;
 		tall = 3;
 		head = 0;
 		roots = 0;
-		wallBlockState = TFBlocks.maze_stone_chiseled.get().getDefaultState();
-		rootBlockState = TFBlocks.maze_stone.get().getDefaultState();
-		torchBlockState = Blocks.TORCH.getDefaultState();
+		this.wallBlockState = wallBlockState;
+		this.rootBlockState = rootBlockState;
+		this.torchBlockState = torchBlockState;
 		pillarBlockState = null;
 
 		torchRarity = 0.75F;
@@ -165,7 +178,7 @@ public class TFMaze {
 	/**
 	 * Gets a value from raw storage
 	 */
-	private int getRaw(int rawx, int rawz) {
+	int getRaw(int rawx, int rawz) {
 		if (rawx < 0 || rawx >= rawWidth || rawz < 0 || rawz >= rawDepth) {
 			return OUT_OF_BOUNDS;
 		} else {
@@ -177,9 +190,14 @@ public class TFMaze {
 	 * Sets the random seed to a specific value
 	 */
 	public void setSeed(long newSeed) {
+		seed = newSeed;
 		rand.setSeed(newSeed);
 	}
 
+	public long getSeed() {
+		return seed;
+	}
+
 	/**
 	 * Copies the maze into the world by placing walls.
 	 */
@@ -304,10 +322,30 @@ public class TFMaze {
 
 	/**
 	 * Copy the maze into a StructureTFComponentOld
+	 * <p>
+	 * Only the cells that could put blocks inside the bounding box are visited, so copying the maze one chunk at a
+	 * time doesn't go over the whole maze for every chunk. The random is seeded again for each cell, so whatever is
+	 * random in a cell comes out the same whichever chunk it's copied in.
 	 */
 	public void copyToStructure(World world, int dx, int dy, int dz, StructureTFComponentOld component, MutableBoundingBox sbb) {
-		for (int x = 0; x < rawWidth; x++) {
-			for (int z = 0; z < rawDepth; z++) {
+		// work out where the bounding box is in structure coordinates
+		BlockPos origin = component.getBlockPosWithOffset(0, 0, 0);
+		BlockPos alongX = component.getBlockPosWithOffset(1, 0, 0).subtract(origin);
+		BlockPos alongZ = component.getBlockPosWithOffset(0, 0, 1).subtract(origin);
+		int x1 = (sbb.minX - origin.getX()) * alongX.getX() + (sbb.minZ - origin.getZ()) * alongX.getZ();
+		int x2 = (sbb.maxX - origin.getX()) * alongX.getX() + (sbb.maxZ - origin.getZ()) * alongX.getZ();
+		int z1 = (sbb.minX - origin.getX()) * alongZ.getX() + (sbb.minZ - origin.getZ()) * alongZ.getZ();
+		int z2 = (sbb.maxX - origin.getX()) * alongZ.getX() + (sbb.maxZ - origin.getZ()) * alongZ.getZ();
+
+		int minRawX = getFirstRaw(dx, Math.min(x1, x2));
+		int maxRawX = getLastRaw(dx, Math.max(x1, x2), rawWidth);
+		int minRawZ = getFirstRaw(dz, Math.min(z1, z2));
+		int maxRawZ = getLastRaw(dz, Math.max(z1, z2), rawDepth);
+
+		for (int x = minRawX; x <= maxRawX; x++) {
+			for (int z = minRawZ; z <= maxRawZ; z++) {
+				seedCell(x, z, 0);
+
 				// only draw walls.  if the data is 0 the there's a wall
 				if (getRaw(x, z) == 0) {
 					int mdx = dx + (x / 2 * (evenBias + oddBias));
@@ -406,8 +444,10 @@ public class TFMaze {
 		}
 
 		// instead of putting placetorches in a seperate function, I just put it here.
-		for (int x = 0; x < rawWidth; x++) {
-			for (int z = 0; z < rawDepth; z++) {
+		for (int x = minRawX; x <= maxRawX; x++) {
+			for (int z = minRawZ; z <= maxRawZ; z++) {
+				seedCell(x, z, 1);
+
 				if (getRaw(x, z) == 0) {
 					int mdx = dx + (x / 2 * (evenBias + oddBias));
 					int mdy = dy + 1;
@@ -424,6 +464,30 @@ public class TFMaze {
 
 	}
 
+	/**
+	 * @return the first raw cell along an axis that could put blocks at or after the structure coordinate
+	 */
+	int getFirstRaw(int offset, int min) {
+		// a cell and the wall before it stay within a block either side of their stretch of the maze
+		int period = evenBias + oddBias;
+		return Math.max(0, -Math.floorDiv(offset + period - min, period) * 2);
+	}
+
+	/**
+	 * @return the last raw cell along an axis that could put blocks at or before the structure coordinate
+	 */
+	int getLastRaw(int offset, int max, int rawSize) {
+		int period = evenBias + oddBias;
+		return Math.min(rawSize - 1, Math.floorDiv(max - offset + 1, period) * 2 + 1);
+	}
+
+	/**
+	 * Seeds the random for one raw cell, from the maze seed, the cell and which pass over the maze this is
+	 */
+	void seedCell(int rx, int rz, int pass) {
+		rand.setSeed(seed ^ rx * 341873128712L ^ rz * 132897987541L ^ pass * 42317861L);
+	}
+
 	private void makeWallThing(World world, int dy, StructureTFComponentOld component, MutableBoundingBox sbb, int mdx, int mdz, int even, int odd) {
 		for (int y = 0; y < head; y++) {
 			putHeadBlock(world, mdx + even, dy + tall + y, mdz + odd, component, sbb);
@@ -699,68 +763,90 @@ public class TFMaze {
 	}
 
 	/**
-	 * Mark the cell as visited.  If we have any unvisited neighbors, pick one randomly, carve the wall between them, then call this function on that neighbor.
+	 * Mark the cell as visited.  If we have any unvisited neighbors, pick one randomly, carve the wall between them, then do the same from that neighbor.
+	 * Once that neighbor runs out, try this cell again, up to 2 more times.
+	 * <p>
+	 * This used to call itself for each of those, which could go very deep on big mazes. It now keeps its own stack, and
+	 * visits cells and uses the random in exactly the same order, so a seed still makes the same maze.
 	 *
 	 * @param sx
 	 * @param sz
 	 */
 	public void rbGen(int sx, int sz) {
+		// each frame is a cell and how far along it is: 0 to visit it, 1 once the neighbor it carved to is done, 2 once the first retry is done
+		IntArrayList stack = new IntArrayList();
+		pushFrame(stack, sx, sz);
+
+		while (!stack.isEmpty()) {
+			int top = stack.size() - 3;
+			int x = stack.getInt(top);
+			int z = stack.getInt(top + 1);
+			int stage = stack.getInt(top + 2);
+
+			if (stage == 0) {
+				int direction = rbVisit(x, z);
+				if (direction < 0) {
+					// no unvisited neighbors
+					stack.size(top);
+				} else {
+					stack.set(top + 2, 1);
+					pushFrame(stack, x + RB_DX[direction], z + RB_DZ[direction]);
+				}
+			} else if (stage == 1) {
+				// the destination has run out of free spaces, let's try this square again
+				stack.set(top + 2, 2);
+				pushFrame(stack, x, z);
+			} else {
+				// and once more, which is the last thing this cell does, so it can just take the cell's place
+				stack.set(top + 2, 0);
+			}
+		}
+	}
+
+	private static void pushFrame(IntArrayList stack, int x, int z) {
+		stack.add(x);
+		stack.add(z);
+		stack.add(0);
+	}
+
+	/**
+	 * Marks the cell as visited, and carves a wall or door to one of its unvisited neighbors if it has any
+	 *
+	 * @return the direction carved in, as an index into {@link #RB_DX} and {@link #RB_DZ}, or -1 if there are no unvisited neighbors
+	 */
+	private int rbVisit(int sx, int sz) {
 		// mark cell as visited
 		putCell(sx, sz, 1);
 
 		// count the unvisted neighbors
 		int unvisited = 0;
-		if (cellEquals(sx + 1, sz, 0)) {
-			unvisited++;
-		}
-		if (cellEquals(sx - 1, sz, 0)) {
-			unvisited++;
-		}
-		if (cellEquals(sx, sz + 1, 0)) {
-			unvisited++;
-		}
-		if (cellEquals(sx, sz - 1, 0)) {
-			unvisited++;
+		for (int i = 0; i < 4; i++) {
+			if (cellEquals(sx + RB_DX[i], sz + RB_DZ[i], 0)) {
+				unvisited++;
+			}
 		}
 
 		// if there are no unvisited neighbors, return
 		if (unvisited == 0) {
-			return;
+			return -1;
 		}
 
 		// otherwise, pick a random neighbor to visit
 		int rn = rand.nextInt(unvisited);
-		int dx, dz;
-		dx = dz = 0;
+		int direction = -1;
 
-		if (cellEquals(sx + 1, sz, 0)) {
-			if (rn == 0) {
-				dx = sx + 1;
-				dz = sz;
-			}
-			rn--;
-		}
-		if (cellEquals(sx - 1, sz, 0)) {
-			if (rn == 0) {
-				dx = sx - 1;
-				dz = sz;
-			}
-			rn--;
-		}
-		if (cellEquals(sx, sz + 1, 0)) {
-			if (rn == 0) {
-				dx = sx;
-				dz = sz + 1;
-			}
-			rn--;
-		}
-		if (cellEquals(sx, sz - 1, 0)) {
-			if (rn == 0) {
-				dx = sx;
-				dz = sz - 1;
+		for (int i = 0; i < 4; i++) {
+			if (cellEquals(sx + RB_DX[i], sz + RB_DZ[i], 0)) {
+				if (rn == 0) {
+					direction = i;
+				}
+				rn--;
 			}
 		}
 
+		int dx = sx + RB_DX[direction];
+		int dz = sz + RB_DZ[direction];
+
 		// carve wall or door
 		if (rand.nextFloat() <= this.doorRarity) {
 			putWall(sx, sz, dx, dz, DOOR);
@@ -768,11 +854,6 @@ public class TFMaze {
 			putWall(sx, sz, dx, dz, 2);
 		}
 
-		// call function recursively at the destination
-		rbGen(dx, dz);
-
-		// the destination has run out of free spaces, let's try this square again, up to 2 more times
-		rbGen(sx, sz);
-		rbGen(sx, sz);
+		return direction;
 	}
 }
@@ -0,0 +1,101 @@
+package twilightforest.structures;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mazes that have already been generated, so a piece that works out its maze again for every chunk it generates in,
+ * or every time it loads, only has to do it the first time.
+ * <p>
+ * Mazes are looked up by the kind of piece, the maze seed and size, and the room coordinates going in. Pieces seed
+ * their mazes from their position, and the world seed where the maze depends on it, so the cache is shared between
+ * worlds. Pieces generate on several threads, so each gets its own copy of a cached maze.
+ */
+public final class TFMazeCache {
+
+	// enough for the mazes around a few players generating at once
+	private static final int MAX_MAZES = 64;
+
+	private static final Map<Key, Generated> MAZES = new LinkedHashMap<Key, Generated>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Generated> eldest) {
+			return size() > MAX_MAZES;
+		}
+	};
+
+	private TFMazeCache() {}
+
+	/**
+	 * Generates the maze, or copies it in if the same kind of piece has made the same maze before.
+	 *
+	 * @param piece     the kind of piece the maze is for, each kind should always generate its mazes the same way
+	 * @param maze      a blank maze, with its seed set
+	 * @param rooms     the room coordinates the generator starts from, which it fills in the rest of
+	 * @param generator carves the rooms and the maze
+	 */
+	public static void generate(Class<?> piece, TFMaze maze, int[] rooms, Runnable generator) {
+		Key key = new Key(piece, maze.getSeed(), maze.width, maze.depth, rooms.clone());
+
+		Generated cached;
+		synchronized (MAZES) {
+			cached = MAZES.get(key);
+		}
+
+		if (cached != null) {
+			System.arraycopy(cached.storage, 0, maze.storage, 0, maze.storage.length);
+			System.arraycopy(cached.rooms, 0, rooms, 0, rooms.length);
+			return;
+		}
+
+		// generated outside the lock, if two threads both generate a maze they come up with the same one anyway
+		generator.run();
+		synchronized (MAZES) {
+			MAZES.put(key, new Generated(maze.storage.clone(), rooms.clone()));
+		}
+	}
+
+	private static class Key {
+		final Class<?> piece;
+		final long seed;
+		final int width;
+		final int depth;
+		final int[] rooms;
+
+		Key(Class<?> piece, long seed, int width, int depth, int[] rooms) {
+			this.piece = piece;
+			this.seed = seed;
+			this.width = width;
+			this.depth = depth;
+			this.rooms = rooms;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return piece == other.piece && seed == other.seed && width == other.width && depth == other.depth && Arrays.equals(rooms, other.rooms);
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = piece.hashCode();
+			hash = hash * 31 + Long.hashCode(seed);
+			hash = hash * 31 + width;
+			hash = hash * 31 + depth;
+			return hash * 31 + Arrays.hashCode(rooms);
+		}
+	}
+
+	private static class Generated {
+		final int[] storage;
+		final int[] rooms;
+
+		Generated(int[] storage, int[] rooms) {
+			this.storage = storage;
+			this.rooms = rooms;
+		}
+	}
+}
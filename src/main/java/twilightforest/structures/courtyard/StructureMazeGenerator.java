@@ -2,7 +2,6 @@ package twilightforest.structures.courtyard;
 
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
-import net.minecraft.nbt.IntNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Rotation;
@@ -15,6 +14,12 @@ import java.util.List;
 import java.util.Random;
 
 public abstract class StructureMazeGenerator extends StructureTFComponent {
+    // 1: cells packed into a long array, before that a list of lists of int tags
+    private static final int MAZE_VERSION = 1;
+    private static final int CELL_BITS = 5;
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+    private static final int CELLS_PER_LONG = Long.SIZE / CELL_BITS;
+
     protected int[][] maze;
     private int[][] cornerClipping = new int[4][2];
     private int widthInCellCount;
@@ -610,19 +615,10 @@ public abstract class StructureMazeGenerator extends StructureTFComponent {
     protected void writeStructureToNBT(CompoundNBT tagCompound) {
         super.writeStructureToNBT(tagCompound);
 
-        ListNBT mazeX = new ListNBT();
-
-        for (int x = 0; x < widthInCellCount-1; x++) {
-            ListNBT mazeY = new ListNBT();
-
-            for (int y = 0; y < heightInCellCount-1; y++) mazeY.add(new IntNBT(maze[x][y]));
-
-            mazeX.add(mazeY);
-        }
-
         tagCompound.putInt("mazeWidth", widthInCellCount);
         tagCompound.putInt("mazeHeight", heightInCellCount);
-        tagCompound.put("maze", mazeX);
+        tagCompound.putInt("mazeVersion", MAZE_VERSION);
+        tagCompound.putLongArray("mazeCells", packMaze(maze, widthInCellCount - 1, heightInCellCount - 1));
     }
 
 	@Override
@@ -634,6 +630,12 @@ public abstract class StructureMazeGenerator extends StructureTFComponent {
 
 		maze = new int[this.widthInCellCount-1][this.heightInCellCount-1];
 
+		if (tagCompound.getInt("mazeVersion") >= MAZE_VERSION) {
+			unpackMaze(maze, tagCompound.getLongArray("mazeCells"), widthInCellCount - 1, heightInCellCount - 1);
+			return;
+		}
+
+		// saved before the maze was packed, as a list of lists of int tags
 		ListNBT mazeX = tagCompound.getList("maze", 9);
 
 		for (int x = 0; x < widthInCellCount-1; x++) {
@@ -643,4 +645,28 @@ public abstract class StructureMazeGenerator extends StructureTFComponent {
 				for (int y = 0; y < heightInCellCount - 1; y++) maze[x][y] = ((ListNBT) mazeY).getInt(y);
 		}
 	}
+
+    // Cells are 4 connection bits plus the hedge bit, packed a whole number of cells to a long, going along y then x
+    private static long[] packMaze(int[][] maze, int width, int height) {
+        long[] packed = new long[(width * height + CELLS_PER_LONG - 1) / CELLS_PER_LONG];
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int index = x * height + y;
+                packed[index / CELLS_PER_LONG] |= (long) (maze[x][y] & CELL_MASK) << (index % CELLS_PER_LONG * CELL_BITS);
+            }
+        }
+
+        return packed;
+    }
+
+    private static void unpackMaze(int[][] maze, long[] packed, int width, int height) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int index = x * height + y;
+                if (index / CELLS_PER_LONG < packed.length)
+                    maze[x][y] = (int) (packed[index / CELLS_PER_LONG] >>> (index % CELLS_PER_LONG * CELL_BITS)) & CELL_MASK;
+            }
+        }
+    }
 }
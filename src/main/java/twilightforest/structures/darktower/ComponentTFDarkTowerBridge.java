@@ -54,7 +54,7 @@ public class ComponentTFDarkTowerBridge extends ComponentTFTowerWing {
 
 		ComponentTFTowerWing wing = new ComponentTFDarkTowerWing(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, wing.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, wing.getBoundingBox());
 		if (intersect == null || intersect == this) {
 			list.add(wing);
 			wing.buildComponent(this, list, rand);
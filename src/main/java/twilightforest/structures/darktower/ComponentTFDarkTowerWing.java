@@ -222,9 +222,9 @@ public class ComponentTFDarkTowerWing extends ComponentTFTowerWing {
 
 		ComponentTFDarkTowerBridge bridge = new ComponentTFDarkTowerBridge(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, bridge.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, bridge.getBoundingBox());
 		if (intersect == null || intersect == this) {
-			intersect = StructurePiece.findIntersecting(list, bridge.getWingBB());
+			intersect = StructureTFComponentOld.findIntersecting(list, bridge.getWingBB());
 		} else {
 			return false;
 		}
@@ -245,7 +245,7 @@ public class ComponentTFDarkTowerWing extends ComponentTFTowerWing {
 
 		ComponentTFDarkTowerBalcony balcony = new ComponentTFDarkTowerBalcony(getFeatureType(), index, dx[0], dx[1], dx[2], direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, balcony.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, balcony.getBoundingBox());
 		if (intersect == null || intersect == this) {
 			list.add(balcony);
 			balcony.buildComponent(this, list, rand);
@@ -89,7 +89,7 @@ public class ComponentTFFinalCastleEntranceTower extends ComponentTFFinalCastleM
 		largerBB.maxX += 6;
 		largerBB.maxZ += 6;
 
-		StructurePiece intersect = StructurePiece.findIntersecting(list, largerBB);
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, largerBB);
 
 		if (intersect == null) {
 			list.add(eTower);
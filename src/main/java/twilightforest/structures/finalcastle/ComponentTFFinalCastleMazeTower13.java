@@ -257,7 +257,7 @@ public class ComponentTFFinalCastleMazeTower13 extends ComponentTFTowerWing {
 			largerBB.minY = 0;
 			largerBB.maxY = 255;
 
-			StructurePiece intersect = StructurePiece.findIntersecting(list, largerBB);
+			StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, largerBB);
 
 			if (intersect == null) {
 				TwilightForestMod.LOGGER.debug("tower success!");
@@ -302,7 +302,7 @@ public class ComponentTFFinalCastleMazeTower13 extends ComponentTFTowerWing {
 		largerBB.maxX += 6;
 		largerBB.maxZ += 6;
 
-		StructurePiece intersect = StructurePiece.findIntersecting(list, largerBB);
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, largerBB);
 
 		if (intersect == null) {
 			//TwilightForestMod.LOGGER.info("wreck tower success!  tower is at " + tc.getX() + ", " + tc.getY() + ", " + tc.getZ());
@@ -372,7 +372,7 @@ public class ComponentTFFinalCastleMazeTower13 extends ComponentTFTowerWing {
 		largerBB.maxX += 6;
 		largerBB.maxZ += 6;
 
-		StructurePiece intersect = StructurePiece.findIntersecting(list, largerBB);
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, largerBB);
 
 		if (intersect == null) {
 			//TwilightForestMod.LOGGER.info("entrance tower success!  tower is at " + tc.getX() + ", " + tc.getY() + ", " + tc.getZ() + " and dest is " + dest.getX() + ", " + dest.getY() + ", " + dest.getZ());
@@ -149,7 +149,7 @@ public class ComponentTFIceTowerWing extends ComponentTFTowerWing {
 
 		ComponentTFIceTowerWing wing = new ComponentTFIceTowerWing(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, wing.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, wing.getBoundingBox());
 		if (intersect == null || intersect == this) {
 			list.add(wing);
 			wing.buildComponent(list.get(0), list, rand);
@@ -171,7 +171,7 @@ public class ComponentTFIceTowerWing extends ComponentTFTowerWing {
 
 		ComponentTFIceTowerWing wing = new ComponentTFIceTowerBossWing(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, wing.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, wing.getBoundingBox());
 		if (intersect == null || intersect == this) {
 			list.add(wing);
 			wing.buildComponent(list.get(0), list, rand);
@@ -148,7 +148,7 @@ public class ComponentTFTowerMain extends ComponentTFTowerWing {
 		int[] dx = offsetTowerCoords(x, y, z, wingSize, direction);
 		ComponentTFTowerOutbuilding outbuilding = new ComponentTFTowerOutbuilding(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, outbuilding.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, outbuilding.getBoundingBox());
 		if (intersect == null) {
 			list.add(outbuilding);
 			outbuilding.buildComponent(this, list, rand);
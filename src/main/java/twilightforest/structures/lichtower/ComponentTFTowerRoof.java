@@ -104,7 +104,7 @@ public abstract class ComponentTFTowerRoof extends StructureTFComponentOld {
 	 * Does this roof intersect anything except the parent tower?
 	 */
 	public boolean fits(ComponentTFTowerWing parent, List<StructurePiece> list, Random rand) {
-		return StructurePiece.findIntersecting(list, this.boundingBox) == parent;
+		return StructureTFComponentOld.findIntersecting(list, this.boundingBox) == parent;
 	}
 
 }
@@ -167,7 +167,7 @@ public class ComponentTFTowerWing extends StructureTFComponentOld {
 
 		ComponentTFTowerWing wing = new ComponentTFTowerWing(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, wing.boundingBox);
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, wing.boundingBox);
 		if (intersect == null || intersect == this) {
 			list.add(wing);
 			wing.buildComponent(this, list, rand);
@@ -194,9 +194,9 @@ public class ComponentTFTowerWing extends StructureTFComponentOld {
 		}
 		ComponentTFTowerBridge bridge = new ComponentTFTowerBridge(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, bridge.boundingBox);
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, bridge.boundingBox);
 		if (intersect == null || intersect == this) {
-			intersect = StructurePiece.findIntersecting(list, bridge.getWingBB());
+			intersect = StructureTFComponentOld.findIntersecting(list, bridge.getWingBB());
 		} else {
 			return false;
 		}
@@ -14,6 +14,7 @@ import twilightforest.TFFeature;
 import twilightforest.block.TFBlocks;
 import twilightforest.structures.StructureTFComponentOld;
 import twilightforest.structures.TFMaze;
+import twilightforest.structures.TFMazeCache;
 
 import java.util.List;
 import java.util.Random;
@@ -43,11 +44,20 @@ public class ComponentTFMinotaurMaze extends StructureTFComponentOld {
 		// rooms
 		int nrooms = 7;
 		rcoords = new int[nrooms * 2];
+		rcoords[0] = entranceX;
+		rcoords[1] = entranceZ;
 
-		addRoomsToMaze(entranceX, entranceZ, nrooms);
+		generateMaze(nrooms);
+	}
 
-		// make actual maze
-		maze.generateRecursiveBacktracker(0, 0);
+	/**
+	 * Adds the rooms and makes the actual maze, or copies it in if it's been made before
+	 */
+	private void generateMaze(int nrooms) {
+		TFMazeCache.generate(ComponentTFMinotaurMaze.class, maze, rcoords, () -> {
+			addRoomsToMaze(rcoords[0], rcoords[1], nrooms);
+			maze.generateRecursiveBacktracker(0, 0);
+		});
 	}
 
 	private void addRoomsToMaze(int entranceX, int entranceZ, int nrooms) {
@@ -110,11 +120,8 @@ public class ComponentTFMinotaurMaze extends StructureTFComponentOld {
 			this.rcoords[i] = 0;
 		}
 
-		// recreate rooms
-		this.addRoomsToMaze(this.rcoords[0], this.rcoords[1], (this.rcoords.length + 1) / 2);
-
-		// regenerate maze
-		maze.generateRecursiveBacktracker(0, 0);
+		// recreate rooms and regenerate maze
+		generateMaze((this.rcoords.length + 1) / 2);
 	}
 
 	protected ComponentTFMazeRoom makeRoom(Random random, int i, int dx, int dz) {
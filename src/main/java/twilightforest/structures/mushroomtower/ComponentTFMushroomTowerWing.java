@@ -142,7 +142,7 @@ public class ComponentTFMushroomTowerWing extends ComponentTFTowerWing {
 
 		ComponentTFMushroomTowerWing wing = new ComponentTFMushroomTowerWing(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, wing.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, wing.getBoundingBox());
 		if (intersect == null || intersect == this || intersect instanceof ComponentTFTowerRoofMushroom) {
 
 			// if we are coming from an ascender bridge, mark the destination component
@@ -223,12 +223,12 @@ public class ComponentTFMushroomTowerWing extends ComponentTFTowerWing {
 	public void makeARoof(StructurePiece parent, List<StructurePiece> list, Random rand) {
 
 		ComponentTFTowerRoof roof = new ComponentTFTowerRoofMushroom(getFeatureType(), this.getComponentType() + 1, this, 1.6F);
-		if (StructurePiece.findIntersecting(list, roof.getBoundingBox()) instanceof ComponentTFTowerRoofMushroom) {
+		if (StructureTFComponentOld.findIntersecting(list, roof.getBoundingBox()) instanceof ComponentTFTowerRoofMushroom) {
 			list.add(roof);
 			roof.buildComponent(this, list, rand);
 		} else {
 			roof = new ComponentTFTowerRoofMushroom(getFeatureType(), this.getComponentType() + 1, this, 1.0F);
-			if (StructurePiece.findIntersecting(list, roof.getBoundingBox()) instanceof ComponentTFTowerRoofMushroom) {
+			if (StructureTFComponentOld.findIntersecting(list, roof.getBoundingBox()) instanceof ComponentTFTowerRoofMushroom) {
 				list.add(roof);
 				roof.buildComponent(this, list, rand);
 			} else {
@@ -259,9 +259,9 @@ public class ComponentTFMushroomTowerWing extends ComponentTFTowerWing {
 		ComponentTFMushroomTowerBridge bridge = new ComponentTFMushroomTowerBridge(getFeatureType(), index, dx[0], dx[1], dx[2], wingSize, wingHeight, direction);
 		bridge.isAscender = ascender;
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, bridge.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, bridge.getBoundingBox());
 		if (intersect == null || intersect == this) {
-			intersect = StructurePiece.findIntersecting(list, bridge.getWingBB());
+			intersect = StructureTFComponentOld.findIntersecting(list, bridge.getWingBB());
 		} else {
 			return false;
 		}
@@ -2,6 +2,7 @@ package twilightforest.structures.start;
 
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.feature.structure.StructurePiece;
@@ -9,14 +10,21 @@ import net.minecraft.world.gen.feature.structure.StructureStart;
 import net.minecraft.world.gen.feature.template.TemplateManager;
 import twilightforest.TFFeature;
 import twilightforest.biomes.TFBiomes;
+import twilightforest.structures.StructureTFComponentList;
 import twilightforest.structures.StructureTFComponentTemplate;
 import twilightforest.structures.darktower.ComponentTFDarkTowerMain;
 import twilightforest.structures.lichtower.ComponentTFTowerMain;
+import twilightforest.util.ChunkBoundingBoxIndex;
 
+import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Random;
 
 public abstract class StructureStartTFAbstract extends StructureStart {
 
+    @Nullable
+    private ChunkBoundingBoxIndex<StructurePiece> componentIndex;
+
     public StructureStartTFAbstract() {
         super();
     }
@@ -28,8 +36,11 @@ public abstract class StructureStartTFAbstract extends StructureStart {
         int y = TFWorld.SEALEVEL + 1; //TODO: maybe a biome-specific altitude for some of them?
 
         StructurePiece firstComponent = makeFirstComponent(world, feature, rand, x, y, z);
-        components.add(firstComponent);
-        firstComponent.buildComponent(firstComponent, components, rand);
+        // lay out in an indexed list, so checking new components for collisions doesn't get slower with every one added
+        StructureTFComponentList layout = new StructureTFComponentList();
+        layout.add(firstComponent);
+        firstComponent.buildComponent(firstComponent, layout, rand);
+        components.addAll(layout);
 
         updateBoundingBox();
 
@@ -39,6 +50,34 @@ public abstract class StructureStartTFAbstract extends StructureStart {
         setupComponents(world);
     }
 
+    /**
+     * Returns the first laid out component whose bounding box contains the position
+     */
+    @Nullable
+    public StructurePiece getComponentAt(BlockPos pos) {
+        return getComponentIndex().getAt(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Returns every component whose bounding box intersects the given box, in layout order
+     */
+    public List<StructurePiece> getComponentsIntersecting(MutableBoundingBox box) {
+        return getComponentIndex().getIntersecting(box);
+    }
+
+    private ChunkBoundingBoxIndex<StructurePiece> getComponentIndex() {
+        // built on first use, once the components are done moving into place or have been read back in
+        if (componentIndex == null) {
+            componentIndex = new ChunkBoundingBoxIndex<>();
+            for (StructurePiece component : components) {
+                if (component.getBoundingBox() != null) {
+                    componentIndex.add(component.getBoundingBox(), component);
+                }
+            }
+        }
+        return componentIndex;
+    }
+
     protected abstract StructurePiece makeFirstComponent(World world, TFFeature feature, Random rand, int x, int y, int z);
 
     /**
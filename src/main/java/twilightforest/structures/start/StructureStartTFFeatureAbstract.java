@@ -61,6 +61,10 @@ public abstract class StructureStartTFFeatureAbstract extends StructureStartTFAb
         }
     }
 
+    public TFFeature getFeature() {
+        return feature;
+    }
+
     @Override
     public boolean isSizeableStructure() {
         return feature.isStructureEnabled;
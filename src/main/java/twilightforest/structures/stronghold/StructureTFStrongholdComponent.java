@@ -187,7 +187,7 @@ public abstract class StructureTFStrongholdComponent extends StructureTFComponen
 
 
 		// is it clear?
-		if (attempted != null && StructurePiece.findIntersecting(list, attempted.getBoundingBox()) == null) {
+		if (attempted != null && StructureTFComponentOld.findIntersecting(list, attempted.getBoundingBox()) == null) {
 			// if so, add it
 			list.add(attempted);
 			attempted.buildComponent(parent, list, random);
@@ -110,7 +110,7 @@ public class TFStrongholdPieces {
 						// we're here!
 						StructureTFStrongholdComponent component = piece.factory.newInstance(feature, index, facing, x, y, z);
 
-						if (StructurePiece.findIntersecting(list, component.getBoundingBox()) == null) {
+						if (StructureTFComponentOld.findIntersecting(list, component.getBoundingBox()) == null) {
 							++piece.instancesSpawned;
 
 							if (!piece.canSpawnMoreStructures()) {
@@ -129,7 +129,7 @@ public class TFStrongholdPieces {
 		// dead end?
 		StructureTFStrongholdComponent deadEnd = new ComponentTFStrongholdDeadEnd(parent instanceof StructureTFComponentOld ? ((StructureTFComponentOld)parent).getFeatureType() : TFFeature.NOTHING, index, facing, x, y, z);
 
-		if (StructurePiece.findIntersecting(list, deadEnd.getBoundingBox()) == null) {
+		if (StructureTFComponentOld.findIntersecting(list, deadEnd.getBoundingBox()) == null) {
 			return deadEnd;
 		} else {
 			return null;
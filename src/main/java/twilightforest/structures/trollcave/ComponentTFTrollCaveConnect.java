@@ -252,7 +252,7 @@ public class ComponentTFTrollCaveConnect extends ComponentTFTrollCaveMain {
 
 		ComponentTFTrollCaveMain cave = new ComponentTFTrollCaveGarden(getFeatureType(), index, dest.getX(), dest.getY(), dest.getZ(), caveSize, caveHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, cave.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, cave.getBoundingBox());
 		StructurePiece otherGarden = findNearbyGarden(list, cave.getBoundingBox());
 		if ((intersect == null || intersect == this) && otherGarden == null) {
 			list.add(cave);
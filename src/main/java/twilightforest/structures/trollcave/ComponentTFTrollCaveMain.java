@@ -92,7 +92,7 @@ public class ComponentTFTrollCaveMain extends StructureTFComponentOld {
 
 		ComponentTFTrollCaveConnect cave = new ComponentTFTrollCaveConnect(getFeatureType(), index, dest.getX(), dest.getY(), dest.getZ(), caveSize, caveHeight, direction);
 		// check to see if it intersects something already there
-		StructurePiece intersect = StructurePiece.findIntersecting(list, cave.getBoundingBox());
+		StructurePiece intersect = StructureTFComponentOld.findIntersecting(list, cave.getBoundingBox());
 		if (intersect == null || intersect == this) {
 			list.add(cave);
 			cave.buildComponent(list.get(0), list, rand);
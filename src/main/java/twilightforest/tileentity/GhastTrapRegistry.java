@@ -0,0 +1,140 @@
+package twilightforest.tileentity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import twilightforest.entity.EntityTFMiniGhast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The loaded ghast traps and mini ghasts in each world, so the Ur-Ghast and the traps can find each other without
+ * scanning blocks or querying entities.
+ * <p>
+ * Trap tile entities add themselves when they load and take themselves out when they are removed or unloaded.
+ * Mini ghasts do the same as they join and leave the world, and move between chunk section buckets as they tick.
+ * <p>
+ * Server only, the client works out what it shows from the world.
+ */
+public final class GhastTrapRegistry {
+
+	private static final Map<World, GhastTrapRegistry> REGISTRIES = new WeakHashMap<>();
+
+	private final LongSet traps = new LongOpenHashSet();
+	private final Long2ObjectMap<List<EntityTFMiniGhast>> ghastsBySection = new Long2ObjectOpenHashMap<>();
+	private final Object2LongMap<EntityTFMiniGhast> ghastSections = new Object2LongOpenHashMap<>();
+
+	private GhastTrapRegistry() {}
+
+	public static GhastTrapRegistry get(World world) {
+		return REGISTRIES.computeIfAbsent(world, w -> new GhastTrapRegistry());
+	}
+
+	/**
+	 * Drops the world's registry, the mini ghasts in it would otherwise keep the world from being collected
+	 */
+	public static void forgetWorld(World world) {
+		REGISTRIES.remove(world);
+	}
+
+	public void addTrap(BlockPos pos) {
+		traps.add(pos.toLong());
+	}
+
+	public void removeTrap(BlockPos pos) {
+		traps.remove(pos.toLong());
+	}
+
+	/**
+	 * @return the traps no further than the ranges from the position, in no particular order
+	 */
+	public List<BlockPos> getTrapsNear(BlockPos pos, int rangeXZ, int rangeY) {
+		List<BlockPos> found = new ArrayList<>();
+		for (long key : traps) {
+			if (Math.abs(BlockPos.unpackX(key) - pos.getX()) <= rangeXZ
+					&& Math.abs(BlockPos.unpackY(key) - pos.getY()) <= rangeY
+					&& Math.abs(BlockPos.unpackZ(key) - pos.getZ()) <= rangeXZ) {
+				found.add(BlockPos.fromLong(key));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * To be called when the ghast joins the world, and every tick after, to keep its bucket up to date
+	 */
+	public void updateGhast(EntityTFMiniGhast ghast) {
+		long section = SectionPos.from(ghast).asLong();
+		if (ghastSections.containsKey(ghast)) {
+			long old = ghastSections.getLong(ghast);
+			if (old == section) {
+				return;
+			}
+			removeFromSection(ghast, old);
+		}
+
+		ghastSections.put(ghast, section);
+		ghastsBySection.computeIfAbsent(section, k -> new ArrayList<>()).add(ghast);
+	}
+
+	public void removeGhast(EntityTFMiniGhast ghast) {
+		if (ghastSections.containsKey(ghast)) {
+			removeFromSection(ghast, ghastSections.removeLong(ghast));
+		}
+	}
+
+	/**
+	 * Same as querying the world for mini ghasts intersecting the box, but only looks through the sections around it
+	 */
+	public List<EntityTFMiniGhast> getGhastsWithin(AxisAlignedBB box) {
+		List<EntityTFMiniGhast> found = new ArrayList<>();
+
+		// ghasts are bucketed by where they stand, so look a little further out for ones poking into the box
+		int minX = MathHelper.floor(box.minX - 2.0D) >> 4;
+		int maxX = MathHelper.floor(box.maxX + 2.0D) >> 4;
+		int minY = MathHelper.floor(box.minY - 2.0D) >> 4;
+		int maxY = MathHelper.floor(box.maxY + 2.0D) >> 4;
+		int minZ = MathHelper.floor(box.minZ - 2.0D) >> 4;
+		int maxZ = MathHelper.floor(box.maxZ + 2.0D) >> 4;
+
+		for (int sx = minX; sx <= maxX; sx++) {
+			for (int sy = minY; sy <= maxY; sy++) {
+				for (int sz = minZ; sz <= maxZ; sz++) {
+					List<EntityTFMiniGhast> ghasts = ghastsBySection.get(SectionPos.asLong(sx, sy, sz));
+					if (ghasts == null) {
+						continue;
+					}
+
+					for (EntityTFMiniGhast ghast : ghasts) {
+						if (ghast.getBoundingBox().intersects(box)) {
+							found.add(ghast);
+						}
+					}
+				}
+			}
+		}
+
+		return found;
+	}
+
+	private void removeFromSection(EntityTFMiniGhast ghast, long section) {
+		List<EntityTFMiniGhast> ghasts = ghastsBySection.get(section);
+		if (ghasts != null) {
+			ghasts.remove(ghast);
+			if (ghasts.isEmpty()) {
+				ghastsBySection.remove(section);
+			}
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package twilightforest.tileentity;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -9,16 +12,21 @@ import net.minecraft.tags.Tag;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.IWorld;
 import twilightforest.block.BlockTFTowerTranslucent;
 import twilightforest.block.TFBlocks;
+import twilightforest.util.BlockChangeWatchers;
 
 import java.util.Random;
 
 import static twilightforest.TwilightForestMod.prefix;
 
-public class TileEntityTFAntibuilder extends TileEntity implements ITickableTileEntity {
+public class TileEntityTFAntibuilder extends TileEntity implements ITickableTileEntity, BlockChangeWatchers.Watcher {
 	private static final Tag<Block> BLACKLIST = new BlockTags.Wrapper(prefix("antibuilder_blacklist"));
 	private static final int REVERT_CHANCE = 10;
+	// changes made without notifying neighbours never reach us, so look over the whole area this often as well
+	private static final int FULL_SCAN_INTERVAL = 100;
 
 	private final int radius = 4;
 	private final int diameter = 2 * radius + 1;
@@ -27,10 +35,9 @@ public class TileEntityTFAntibuilder extends TileEntity implements ITickableTile
 	private final Random rand = new Random();
 
 	private int tickCount;
-	private boolean slowScan;
-	private int ticksSinceChange;
 
 	private BlockState[] blockData;
+	private final LongSet changedPositions = new LongOpenHashSet();
 
 	public TileEntityTFAntibuilder() {
 		super(TFTileEntities.ANTIBUILDER.get());
@@ -59,29 +66,52 @@ public class TileEntityTFAntibuilder extends TileEntity implements ITickableTile
 				// new plan, take a snapshot of the world when we are first activated, and then rapidly revert changes
 				if (blockData == null && world.isAreaLoaded(this.pos, this.radius)) {
 					captureBlockData();
-					this.slowScan = true;
+					BlockChangeWatchers.watch(this.world, new MutableBoundingBox(this.pos.add(-radius, -radius, -radius), this.pos.add(radius, radius, radius)), this);
 				}
 
-				if (blockData != null && (!this.slowScan || this.tickCount % 20 == 0)) {
-					if (scanAndRevertChanges()) {
-						this.slowScan = false;
-						this.ticksSinceChange = 0;
-					} else {
-						ticksSinceChange++;
+				if (blockData != null) {
+					if (this.tickCount % FULL_SCAN_INTERVAL == 0) {
+						scanForChanges();
+					}
 
-						if (ticksSinceChange > 20) {
-							this.slowScan = true;
-						}
+					// only look at the blocks that changed, until they have been reverted or accepted
+					if (!this.changedPositions.isEmpty()) {
+						revertChanges();
 					}
 				}
 			}
 		} else {
 			// remove data
-			this.blockData = null;
+			stopWatching();
 			this.tickCount = 0;
 		}
 	}
 
+	@Override
+	public void onBlockChanged(IWorld world, BlockPos changedPos) {
+		this.changedPositions.add(changedPos.toLong());
+	}
+
+	@Override
+	public void remove() {
+		super.remove();
+		stopWatching();
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		stopWatching();
+	}
+
+	private void stopWatching() {
+		if (this.blockData != null) {
+			BlockChangeWatchers.unwatch(this.world, this);
+		}
+		this.blockData = null;
+		this.changedPositions.clear();
+	}
+
 
 	/**
 	 * Display a random one of the 12 possible outlines
@@ -203,29 +233,53 @@ public class TileEntityTFAntibuilder extends TileEntity implements ITickableTile
 		}
 	}
 
-	private boolean scanAndRevertChanges() {
+	private void scanForChanges() {
 		int index = 0;
-		boolean reverted = false;
 
 		for (int x = -radius; x <= radius; x++) {
 			for (int y = -radius; y <= radius; y++) {
 				for (int z = -radius; z <= radius; z++) {
-					BlockState stateThere = world.getBlockState(pos.add(x, y, z));
-
-					if (blockData[index].getBlock() != stateThere.getBlock()) {
-						if (revertBlock(pos.add(x, y, z), stateThere, blockData[index])) {
-							reverted = true;
-						} else {
-							blockData[index] = stateThere;
-						}
+					BlockPos posThere = pos.add(x, y, z);
+
+					if (blockData[index].getBlock() != world.getBlockState(posThere).getBlock()) {
+						this.changedPositions.add(posThere.toLong());
 					}
 
 					index++;
 				}
 			}
 		}
+	}
+
+	private void revertChanges() {
+		LongIterator iterator = this.changedPositions.iterator();
+
+		while (iterator.hasNext()) {
+			BlockPos posThere = BlockPos.fromLong(iterator.nextLong());
+			int index = getIndex(posThere);
+			BlockState stateThere = world.getBlockState(posThere);
+
+			if (blockData[index].getBlock() != stateThere.getBlock()) {
+				if (revertBlock(posThere, stateThere, blockData[index])) {
+					// still fighting over this one, check it again next tick
+					continue;
+				} else {
+					blockData[index] = stateThere;
+				}
+			}
+
+			iterator.remove();
+		}
+	}
 
-		return reverted;
+	/**
+	 * Where the position is in the block data, in the same x, y, z order the data was captured
+	 */
+	private int getIndex(BlockPos posThere) {
+		int dx = posThere.getX() - pos.getX() + radius;
+		int dy = posThere.getY() - pos.getY() + radius;
+		int dz = posThere.getZ() - pos.getZ() + radius;
+		return (dx * diameter + dy) * diameter + dz;
 	}
 
 	private boolean revertBlock(BlockPos pos, BlockState stateThere, BlockState replaceWith) {
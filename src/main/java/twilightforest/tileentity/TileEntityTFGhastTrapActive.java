@@ -26,6 +26,30 @@ public class TileEntityTFGhastTrapActive extends TileEntity implements ITickable
 		super(TFTileEntities.GHAST_TRAP_ACTIVE.get());
 	}
 
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).addTrap(pos);
+		}
+	}
+
+	@Override
+	public void remove() {
+		super.remove();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).removeTrap(pos);
+		}
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).removeTrap(pos);
+		}
+	}
+
 	@Override
 	public void tick() {
 
@@ -25,12 +25,39 @@ public class TileEntityTFGhastTrapInactive extends TileEntity implements ITickab
 		super(TFTileEntities.GHAST_TRAP_INACTIVE.get());
 	}
 
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).addTrap(pos);
+		}
+	}
+
+	@Override
+	public void remove() {
+		super.remove();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).removeTrap(pos);
+		}
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		if (!world.isRemote) {
+			GhastTrapRegistry.get(world).removeTrap(pos);
+		}
+	}
+
 	@Override
 	public void tick() {
 		// check to see if there are any dying mini ghasts within our scan range
 		AxisAlignedBB aabb = new AxisAlignedBB(pos).grow(10D, 16D, 10D);
 
-		List<EntityTFMiniGhast> nearbyGhasts = world.getEntitiesWithinAABB(EntityTFMiniGhast.class, aabb);
+		// the registry is only kept on the server
+		List<EntityTFMiniGhast> nearbyGhasts = world.isRemote
+				? world.getEntitiesWithinAABB(EntityTFMiniGhast.class, aabb)
+				: GhastTrapRegistry.get(world).getGhastsWithin(aabb);
 
 		for (EntityTFMiniGhast ghast : nearbyGhasts) {
 			if (ghast.deathTime > 0) {
@@ -0,0 +1,86 @@
+package twilightforest.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.world.biome.Biome;
+
+import java.util.Arrays;
+
+/**
+ * A read-only grid of biomes, kept as one byte per position indexing into the biomes it actually has.
+ * <p>
+ * Any area worth keeping a grid of only has a handful of biomes in it, so this is a quarter the size of a biome array
+ * or less, and can be handed out without copying since nothing can change it.
+ */
+public final class BiomeGrid {
+
+	// indices are stored unsigned
+	private static final int MAX_BIOMES = 256;
+
+	private final int width;
+	private final int depth;
+	private final byte[] indices;
+	private final Biome[] palette;
+
+	private BiomeGrid(int width, int depth, byte[] indices, Biome[] palette) {
+		this.width = width;
+		this.depth = depth;
+		this.indices = indices;
+		this.palette = palette;
+	}
+
+	/**
+	 * Fills in a grid by asking for the biome at each position, along x then z
+	 */
+	public static BiomeGrid sample(int width, int depth, Sampler sampler) {
+		byte[] indices = new byte[width * depth];
+		Reference2IntMap<Biome> paletteIndices = new Reference2IntOpenHashMap<>();
+		paletteIndices.defaultReturnValue(-1);
+		Biome[] palette = new Biome[16];
+
+		for (int z = 0; z < depth; z++) {
+			for (int x = 0; x < width; x++) {
+				Biome biome = sampler.getBiome(x, z);
+				int index = paletteIndices.getInt(biome);
+				if (index == -1) {
+					index = paletteIndices.size();
+					if (index >= MAX_BIOMES) {
+						throw new IllegalStateException("More than " + MAX_BIOMES + " biomes in a " + width + "x" + depth + " grid");
+					}
+					if (index == palette.length) {
+						palette = Arrays.copyOf(palette, palette.length * 2);
+					}
+					palette[index] = biome;
+					paletteIndices.put(biome, index);
+				}
+				indices[x + z * width] = (byte) index;
+			}
+		}
+
+		return new BiomeGrid(width, depth, indices, Arrays.copyOf(palette, paletteIndices.size()));
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public Biome get(int x, int z) {
+		return palette[indices[x + z * width] & 0xFF];
+	}
+
+	/**
+	 * Same as {@link #get(int, int)}, for a position given as x + z * width
+	 */
+	public Biome get(int index) {
+		return palette[indices[index] & 0xFF];
+	}
+
+	@FunctionalInterface
+	public interface Sampler {
+		Biome getBiome(int x, int z);
+	}
+}
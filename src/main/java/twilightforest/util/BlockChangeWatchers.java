@@ -0,0 +1,61 @@
+package twilightforest.util;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.IWorld;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Lets tile entities and the like watch a volume of the world for block changes, instead of re-reading the whole
+ * volume to find out whether anything changed. Watchers are bucketed by chunk, so a change is only offered to the
+ * watchers whose volume holds it.
+ * <p>
+ * Changes are fed in from {@link twilightforest.TFEventListener} through Forge's neighbour notify event, so block
+ * changes made without notifying neighbours are not seen. Watchers that must not miss anything should still look
+ * over their volume now and then.
+ * <p>
+ * Server thread only.
+ */
+public final class BlockChangeWatchers {
+
+	private static final Map<IWorld, ChunkBoundingBoxIndex<Watcher>> WATCHERS = new WeakHashMap<>();
+
+	private BlockChangeWatchers() {}
+
+	/**
+	 * Watchers are given the world rather than keeping it, since the watchers are held until the world unloads
+	 */
+	public interface Watcher {
+		void onBlockChanged(IWorld world, BlockPos pos);
+	}
+
+	public static void watch(IWorld world, MutableBoundingBox volume, Watcher watcher) {
+		WATCHERS.computeIfAbsent(world, w -> new ChunkBoundingBoxIndex<>()).add(volume, watcher);
+	}
+
+	public static void unwatch(IWorld world, Watcher watcher) {
+		ChunkBoundingBoxIndex<Watcher> watchers = WATCHERS.get(world);
+		if (watchers != null) {
+			watchers.remove(watcher);
+			if (watchers.isEmpty()) {
+				WATCHERS.remove(world);
+			}
+		}
+	}
+
+	/**
+	 * Drops every watcher in the world, to be called when it unloads
+	 */
+	public static void forgetWorld(IWorld world) {
+		WATCHERS.remove(world);
+	}
+
+	public static void onBlockChanged(IWorld world, BlockPos pos) {
+		ChunkBoundingBoxIndex<Watcher> watchers = WATCHERS.get(world);
+		if (watchers != null) {
+			watchers.forEachAt(pos.getX(), pos.getY(), pos.getZ(), watcher -> watcher.onBlockChanged(world, pos));
+		}
+	}
+}
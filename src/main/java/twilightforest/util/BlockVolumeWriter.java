@@ -0,0 +1,158 @@
+package twilightforest.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects block changes over a volume and writes them in one go.
+ * <p>
+ * Changes go straight into the chunks. Neighbour and shape updates are only sent to blocks just outside the
+ * changed positions once everything is written, instead of each change updating the rest of the batch as it goes.
+ * Light is rechecked and clients are told after everything is written, so each chunk's changes go out in a single
+ * multi-block change packet on the next tick.
+ * <p>
+ * This is only for changes the server makes by itself. While the world is capturing block snapshots, such as during
+ * item placement, changes are set one at a time through the world instead. Placement code shouldn't use this at all.
+ */
+public class BlockVolumeWriter {
+
+	private final World world;
+	private final Long2ObjectMap<BlockState> changes = new Long2ObjectLinkedOpenHashMap<>();
+	// positions to show block breaking effects at once written
+	private final LongList broken = new LongArrayList();
+
+	public BlockVolumeWriter(World world) {
+		this.world = world;
+	}
+
+	public BlockVolumeWriter set(BlockPos pos, BlockState state) {
+		changes.put(pos.toLong(), state);
+		return this;
+	}
+
+	/**
+	 * Like {@link World#destroyBlock}, the block is replaced with whatever fluid was in it
+	 */
+	public BlockVolumeWriter destroy(BlockPos pos, boolean dropBlock) {
+		BlockState state = world.getBlockState(pos);
+		if (state.isAir(world, pos)) {
+			return this;
+		}
+
+		if (dropBlock) {
+			TileEntity te = state.hasTileEntity() ? world.getTileEntity(pos) : null;
+			Block.spawnDrops(state, world, pos, te);
+		}
+
+		broken.add(pos.toLong());
+		return set(pos, world.getFluidState(pos).getBlockState());
+	}
+
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	/**
+	 * Writes every change, then updates the surroundings
+	 *
+	 * @return the number of blocks that actually changed
+	 */
+	public int apply() {
+		if (world.isRemote || world.captureBlockSnapshots) {
+			// the client gets the changes from the server anyway, and while snapshots are being captured every change
+			// has to go through the world, so a cancelled event can put it back
+			return applyOneByOne();
+		}
+
+		List<BlockPos> changedPositions = new ArrayList<>();
+		List<BlockState> oldStates = new ArrayList<>();
+		LongSet changed = new LongOpenHashSet();
+
+		// the break effect needs the state from before the change
+		for (long key : broken) {
+			BlockPos pos = BlockPos.fromLong(key);
+			world.playEvent(2001, pos, Block.getStateId(world.getBlockState(pos)));
+		}
+
+		for (Long2ObjectMap.Entry<BlockState> entry : changes.long2ObjectEntrySet()) {
+			BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+			if (World.isOutsideBuildHeight(pos)) {
+				continue;
+			}
+
+			Chunk chunk = world.getChunkAt(pos);
+			BlockState old = chunk.setBlockState(pos, entry.getValue(), false);
+			if (old != null) {
+				changed.add(entry.getLongKey());
+				changedPositions.add(pos);
+				oldStates.add(old);
+			}
+		}
+
+		for (int i = 0; i < changedPositions.size(); i++) {
+			BlockPos pos = changedPositions.get(i);
+			BlockState old = oldStates.get(i);
+			BlockState state = world.getBlockState(pos);
+
+			world.getChunkProvider().getLightManager().checkBlock(pos);
+			world.notifyBlockUpdate(pos, old, state, 3);
+			world.onBlockStateChange(pos, old, state);
+			BlockChangeWatchers.onBlockChanged(world, pos);
+
+			for (Direction facing : Direction.values()) {
+				BlockPos neighbor = pos.offset(facing);
+				if (changed.contains(neighbor.toLong())) {
+					continue;
+				}
+
+				world.neighborChanged(neighbor, state.getBlock(), pos);
+
+				BlockState neighborState = world.getBlockState(neighbor);
+				BlockState updated = neighborState.updatePostPlacement(facing.getOpposite(), state, world, neighbor, pos);
+				Block.replaceBlock(neighborState, updated, world, neighbor, 3);
+			}
+		}
+
+		clear();
+		return changedPositions.size();
+	}
+
+	/**
+	 * Sets each change through the world the usual way, with block updates and sending to clients
+	 */
+	private int applyOneByOne() {
+		for (long key : broken) {
+			BlockPos pos = BlockPos.fromLong(key);
+			world.playEvent(2001, pos, Block.getStateId(world.getBlockState(pos)));
+		}
+
+		int count = 0;
+		for (Long2ObjectMap.Entry<BlockState> entry : changes.long2ObjectEntrySet()) {
+			if (world.setBlockState(BlockPos.fromLong(entry.getLongKey()), entry.getValue(), 3)) {
+				count++;
+			}
+		}
+
+		clear();
+		return count;
+	}
+
+	private void clear() {
+		changes.clear();
+		broken.clear();
+	}
+}
@@ -0,0 +1,197 @@
+package twilightforest.util;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MutableBoundingBox;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Chunk-keyed index of bounding boxes, so looking up what is at or near a position only has to look at the
+ * boxes overlapping that chunk column instead of every box ever added.
+ *
+ * Boxes are kept by reference, so moving a box up or down after adding it is fine, but moving it horizontally
+ * needs a {@link #remove} and {@link #add} to re-bucket it.
+ *
+ * Lookups that return a single value return the earliest added match, same as a linear scan over a list would.
+ */
+public class ChunkBoundingBoxIndex<T> {
+
+	private final Long2ObjectMap<List<Entry<T>>> byChunk = new Long2ObjectOpenHashMap<>();
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+	private int nextOrder;
+
+	public void add(MutableBoundingBox box, T value) {
+		if (entries.containsKey(value)) {
+			remove(value);
+		}
+
+		Entry<T> entry = new Entry<>(box, value, nextOrder++);
+		entries.put(value, entry);
+
+		for (int cx = box.minX >> 4; cx <= box.maxX >> 4; cx++) {
+			for (int cz = box.minZ >> 4; cz <= box.maxZ >> 4; cz++) {
+				byChunk.computeIfAbsent(ChunkPos.asLong(cx, cz), k -> new ArrayList<>(2)).add(entry);
+			}
+		}
+	}
+
+	public void remove(T value) {
+		Entry<T> entry = entries.remove(value);
+		if (entry == null) {
+			return;
+		}
+
+		for (int cx = entry.minChunkX; cx <= entry.maxChunkX; cx++) {
+			for (int cz = entry.minChunkZ; cz <= entry.maxChunkZ; cz++) {
+				long key = ChunkPos.asLong(cx, cz);
+				List<Entry<T>> list = byChunk.get(key);
+				if (list != null) {
+					list.remove(entry);
+					if (list.isEmpty()) {
+						byChunk.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	public void clear() {
+		byChunk.clear();
+		entries.clear();
+		nextOrder = 0;
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the first added value whose box contains the position
+	 */
+	@Nullable
+	public T getAt(int x, int y, int z) {
+		Entry<T> found = null;
+		for (Entry<T> entry : byChunk.getOrDefault(ChunkPos.asLong(x >> 4, z >> 4), Collections.emptyList())) {
+			if ((found == null || entry.order < found.order) && contains(entry.box, x, y, z)) {
+				found = entry;
+			}
+		}
+		return found != null ? found.value : null;
+	}
+
+	/**
+	 * Returns the first added value whose box contains the column at x, z, at any height
+	 */
+	@Nullable
+	public T getAt(int x, int z) {
+		Entry<T> found = null;
+		for (Entry<T> entry : byChunk.getOrDefault(ChunkPos.asLong(x >> 4, z >> 4), Collections.emptyList())) {
+			if ((found == null || entry.order < found.order) && entry.box.intersectsWith(x, z, x, z)) {
+				found = entry;
+			}
+		}
+		return found != null ? found.value : null;
+	}
+
+	/**
+	 * Hands every value whose box contains the position to the consumer
+	 */
+	public void forEachAt(int x, int y, int z, Consumer<T> consumer) {
+		List<Entry<T>> list = byChunk.get(ChunkPos.asLong(x >> 4, z >> 4));
+		if (list != null) {
+			// copy, so the consumer is free to add or remove values
+			for (Entry<T> entry : new ArrayList<>(list)) {
+				if (contains(entry.box, x, y, z)) {
+					consumer.accept(entry.value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the first added value whose box intersects the given box
+	 */
+	@Nullable
+	public T findIntersecting(MutableBoundingBox box) {
+		return findIntersectingExcluding(box, null);
+	}
+
+	/**
+	 * Returns the first added value whose box intersects the given box, skipping the excluded value
+	 */
+	@Nullable
+	public T findIntersectingExcluding(MutableBoundingBox box, @Nullable T exclude) {
+		Entry<T> found = null;
+		for (int cx = box.minX >> 4; cx <= box.maxX >> 4; cx++) {
+			for (int cz = box.minZ >> 4; cz <= box.maxZ >> 4; cz++) {
+				for (Entry<T> entry : byChunk.getOrDefault(ChunkPos.asLong(cx, cz), Collections.emptyList())) {
+					if ((found == null || entry.order < found.order) && entry.value != exclude && entry.box.intersectsWith(box)) {
+						found = entry;
+					}
+				}
+			}
+		}
+		return found != null ? found.value : null;
+	}
+
+	/**
+	 * Returns every value whose box intersects the given box, in the order they were added
+	 */
+	public List<T> getIntersecting(MutableBoundingBox box) {
+		List<Entry<T>> found = new ArrayList<>();
+		// boxes spanning several chunks are in each of their buckets, so only take each one once
+		IntSet seen = new IntOpenHashSet();
+		for (int cx = box.minX >> 4; cx <= box.maxX >> 4; cx++) {
+			for (int cz = box.minZ >> 4; cz <= box.maxZ >> 4; cz++) {
+				for (Entry<T> entry : byChunk.getOrDefault(ChunkPos.asLong(cx, cz), Collections.emptyList())) {
+					if (entry.box.intersectsWith(box) && seen.add(entry.order)) {
+						found.add(entry);
+					}
+				}
+			}
+		}
+
+		found.sort((a, b) -> Integer.compare(a.order, b.order));
+		List<T> values = new ArrayList<>(found.size());
+		for (Entry<T> entry : found) {
+			values.add(entry.value);
+		}
+		return values;
+	}
+
+	private static boolean contains(MutableBoundingBox box, int x, int y, int z) {
+		return x >= box.minX && x <= box.maxX && z >= box.minZ && z <= box.maxZ && y >= box.minY && y <= box.maxY;
+	}
+
+	private static class Entry<T> {
+		final MutableBoundingBox box;
+		final T value;
+		final int order;
+		// remember which chunks we were bucketed into, in case the box is moved before removal
+		final int minChunkX, minChunkZ, maxChunkX, maxChunkZ;
+
+		Entry(MutableBoundingBox box, T value, int order) {
+			this.box = box;
+			this.value = value;
+			this.order = order;
+			this.minChunkX = box.minX >> 4;
+			this.minChunkZ = box.minZ >> 4;
+			this.maxChunkX = box.maxX >> 4;
+			this.maxChunkZ = box.maxZ >> 4;
+		}
+	}
+}
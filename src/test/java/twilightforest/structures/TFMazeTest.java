@@ -0,0 +1,164 @@
+package twilightforest.structures;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the maze generator against the recursive one it replaced, which a seed has to keep making the same maze with.
+ */
+public class TFMazeTest {
+
+	private static final int[] SIZES = {1, 2, 3, 5, 8, 13, 21, 32, 48, 64};
+	private static final float[] DOOR_RARITIES = {0F, 0.05F, 0.25F, 1F};
+
+	@Test
+	public void sameAsRecursive() {
+		for (long seed = 0; seed < 20; seed++) {
+			for (int width : SIZES) {
+				for (int depth : SIZES) {
+					for (float doorRarity : DOOR_RARITIES) {
+						check(seed * 0x9E3779B97F4A7C15L, width, depth, doorRarity, false);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void sameAsRecursiveAroundRooms() {
+		for (long seed = 0; seed < 50; seed++) {
+			for (int size : new int[]{7, 12, 16, 27, 40}) {
+				for (float doorRarity : DOOR_RARITIES) {
+					check(seed * 0x9E3779B97F4A7C15L, size, size, doorRarity, true);
+				}
+			}
+		}
+	}
+
+	private static void check(long seed, int width, int depth, float doorRarity, boolean rooms) {
+		TFMaze maze = makeMaze(seed, width, depth, doorRarity, rooms);
+		TFMaze reference = makeMaze(seed, width, depth, doorRarity, rooms);
+
+		int sx = width / 2;
+		int sz = depth / 2;
+		maze.generateRecursiveBacktracker(sx, sz);
+		new RecursiveGenerator(reference).rbGen(sx, sz);
+
+		String message = "seed " + seed + ", " + width + "x" + depth + ", door rarity " + doorRarity + (rooms ? ", with rooms" : "");
+		assertArrayEquals(reference.storage, maze.storage, message);
+		assertEquals(reference.rand.nextLong(), maze.rand.nextLong(), message);
+	}
+
+	private static TFMaze makeMaze(long seed, int width, int depth, float doorRarity, boolean rooms) {
+		TFMaze maze = new TFMaze(width, depth, null, null, null);
+		maze.setSeed(seed);
+		maze.doorRarity = doorRarity;
+
+		if (rooms) {
+			// a few rooms placed the way the pieces do, from the maze's own random
+			for (int i = 0; i < 3; i++) {
+				maze.carveRoom1(maze.rand.nextInt(width), maze.rand.nextInt(depth));
+			}
+			maze.add4Exits();
+		}
+		return maze;
+	}
+
+	/**
+	 * The generator as it was before it kept its own stack
+	 */
+	private static class RecursiveGenerator {
+		private final TFMaze maze;
+
+		RecursiveGenerator(TFMaze maze) {
+			this.maze = maze;
+		}
+
+		private int getCell(int x, int z) {
+			int rawx = x * 2 + 1;
+			int rawz = z * 2 + 1;
+			if (rawx < 0 || rawx >= maze.rawWidth || rawz < 0 || rawz >= maze.rawDepth) {
+				return TFMaze.OUT_OF_BOUNDS;
+			}
+			return maze.storage[rawz * maze.rawWidth + rawx];
+		}
+
+		private boolean cellEquals(int x, int z, int value) {
+			return getCell(x, z) == value;
+		}
+
+		void rbGen(int sx, int sz) {
+			// mark cell as visited
+			maze.putRaw(sx * 2 + 1, sz * 2 + 1, 1);
+
+			// count the unvisted neighbors
+			int unvisited = 0;
+			if (cellEquals(sx + 1, sz, 0)) {
+				unvisited++;
+			}
+			if (cellEquals(sx - 1, sz, 0)) {
+				unvisited++;
+			}
+			if (cellEquals(sx, sz + 1, 0)) {
+				unvisited++;
+			}
+			if (cellEquals(sx, sz - 1, 0)) {
+				unvisited++;
+			}
+
+			// if there are no unvisited neighbors, return
+			if (unvisited == 0) {
+				return;
+			}
+
+			// otherwise, pick a random neighbor to visit
+			int rn = maze.rand.nextInt(unvisited);
+			int dx, dz;
+			dx = dz = 0;
+
+			if (cellEquals(sx + 1, sz, 0)) {
+				if (rn == 0) {
+					dx = sx + 1;
+					dz = sz;
+				}
+				rn--;
+			}
+			if (cellEquals(sx - 1, sz, 0)) {
+				if (rn == 0) {
+					dx = sx - 1;
+					dz = sz;
+				}
+				rn--;
+			}
+			if (cellEquals(sx, sz + 1, 0)) {
+				if (rn == 0) {
+					dx = sx;
+					dz = sz + 1;
+				}
+				rn--;
+			}
+			if (cellEquals(sx, sz - 1, 0)) {
+				if (rn == 0) {
+					dx = sx;
+					dz = sz - 1;
+				}
+			}
+
+			// carve wall or door
+			if (maze.rand.nextFloat() <= maze.doorRarity) {
+				maze.putWall(sx, sz, dx, dz, TFMaze.DOOR);
+			} else {
+				maze.putWall(sx, sz, dx, dz, 2);
+			}
+
+			// call function recursively at the destination
+			rbGen(dx, dz);
+
+			// the destination has run out of free spaces, let's try this square again, up to 2 more times
+			rbGen(sx, sz);
+			rbGen(sx, sz);
+		}
+	}
+}